@@ -0,0 +1,41 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.dto.BookingDtoFull;
+import ru.practicum.shareit.booking.service.BookingService;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BookingServiceBenchmark {
+	@Param({"ALL", "CURRENT", "PAST", "FUTURE", "WAITING", "REJECTED"})
+	private String state;
+
+	private BookingService bookingService;
+
+	@Setup
+	public void setUp(SeededShareIt shareIt) {
+		bookingService = shareIt.getBean(BookingService.class);
+	}
+
+	@Benchmark
+	public Collection<BookingDtoFull> getYourBooking(SeededShareIt shareIt) {
+		return bookingService.getYourBooking(shareIt.getOwnerId(), state, 0, 10, null);
+	}
+}
@@ -0,0 +1,131 @@
+package ru.practicum.shareit.benchmark;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.id.IdentifierGenerator;
+import org.hibernate.id.IdentityGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkInsertBenchmark {
+	private static final int ROWS = 500;
+
+	@Param({"IDENTITY_UNBATCHED", "POOLED_SEQUENCE_BATCHED"})
+	private IdMapping mapping;
+
+	private ConfigurableApplicationContext context;
+	private UserRepository userRepository;
+	private ItemRepository itemRepository;
+	private TransactionTemplate transactionTemplate;
+	private long sequence;
+
+	@Setup(Level.Trial)
+	public void start() {
+		context = new SpringApplicationBuilder(ShareItServer.class)
+				.web(WebApplicationType.NONE)
+				.profiles("test")
+				.properties("spring.datasource.url=jdbc:h2:mem:shareit-bulk-" + mapping + ";DB_CLOSE_DELAY=-1",
+						"logging.level.root=WARN")
+				.properties(mapping.properties)
+				.run();
+		checkIdGenerators();
+		userRepository = context.getBean(UserRepository.class);
+		itemRepository = context.getBean(ItemRepository.class);
+		transactionTemplate = context.getBean(TransactionTemplate.class);
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		context.close();
+	}
+
+	private void checkIdGenerators() {
+		SessionFactoryImplementor sessionFactory = context.getBean(EntityManagerFactory.class)
+				.unwrap(SessionFactoryImplementor.class);
+		for (Class<?> entity : List.of(User.class, Item.class)) {
+			IdentifierGenerator generator = sessionFactory.getMetamodel()
+					.entityPersister(entity)
+					.getIdentifierGenerator();
+			if (!mapping.generator.isInstance(generator)) {
+				throw new IllegalStateException("Для " + entity.getSimpleName() + " ожидался генератор id "
+						+ mapping.generator.getSimpleName() + ", получен " + generator.getClass().getSimpleName());
+			}
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public List<User> insertUsers() {
+		return transactionTemplate.execute(status -> {
+			List<User> users = new ArrayList<>(ROWS);
+			for (int i = 0; i < ROWS; i++) {
+				long n = sequence++;
+				users.add(new User(null, "user" + n, "user" + n + "@bulk.ru"));
+			}
+			return userRepository.saveAll(users);
+		});
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(ROWS)
+	public List<Item> insertItems() {
+		return transactionTemplate.execute(status -> {
+			long n = sequence++;
+			User owner = userRepository.save(new User(null, "owner" + n, "owner" + n + "@bulk.ru"));
+			List<Item> items = new ArrayList<>(ROWS);
+			for (int i = 0; i < ROWS; i++) {
+				items.add(new Item(null, "Дрель " + i, "Аккумуляторная дрель модель " + i, true, owner, null));
+			}
+			return itemRepository.saveAll(items);
+		});
+	}
+
+	public enum IdMapping {
+		IDENTITY_UNBATCHED(IdentityGenerator.class,
+				"spring.jpa.mapping-resources=META-INF/identity-ids.xml",
+				"spring.jpa.properties.hibernate.jdbc.batch_size=1",
+				"spring.jpa.properties.hibernate.order_inserts=false",
+				"spring.jpa.properties.hibernate.order_updates=false"),
+		POOLED_SEQUENCE_BATCHED(SequenceStyleGenerator.class);
+
+		private final Class<? extends IdentifierGenerator> generator;
+		private final String[] properties;
+
+		IdMapping(Class<? extends IdentifierGenerator> generator, String... properties) {
+			this.generator = generator;
+			this.properties = properties;
+		}
+	}
+}
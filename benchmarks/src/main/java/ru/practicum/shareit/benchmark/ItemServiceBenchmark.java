@@ -0,0 +1,46 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.service.ItemService;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemServiceBenchmark {
+	@Param({"10", "50"})
+	private int size;
+
+	private ItemService itemService;
+
+	@Setup
+	public void setUp(SeededShareIt shareIt) {
+		itemService = shareIt.getBean(ItemService.class);
+	}
+
+	@Benchmark
+	public Collection<ItemDto> getItemsUser(SeededShareIt shareIt) {
+		return itemService.getItemsUser(shareIt.getOwnerId(), 0, size);
+	}
+
+	@Benchmark
+	public Collection<ItemDto> getItemsByNameOrDescription(SeededShareIt shareIt) {
+		return itemService.getItemsByNameOrDescription(shareIt.getBookerId(), "отвертка", 0, size, null);
+	}
+}
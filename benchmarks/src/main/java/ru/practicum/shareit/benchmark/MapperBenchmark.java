@@ -0,0 +1,86 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingDtoFull;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.CommentMapper;
+import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+	private Item item;
+	private Booking booking;
+	private BookingView bookingView;
+	private Comment comment;
+	private BookingDto lastBooking;
+	private BookingDto nextBooking;
+	private List<CommentDto> comments;
+
+	@Setup
+	public void setUp() {
+		LocalDateTime now = LocalDateTime.now();
+		User owner = new User(1L, "owner", "owner@bench.ru");
+		User booker = new User(2L, "booker", "booker@bench.ru");
+		item = new Item(1L, "Дрель", "Аккумуляторная дрель", true, owner, null);
+		booking = new Booking(1L, now.plusDays(1), now.plusDays(2), item, booker, Status.WAITING);
+		bookingView = new BookingView(1L, now.plusDays(1), now.plusDays(2), Status.WAITING, item.getId(),
+				item.getName(), item.getDescription(), item.getAvailable(), null, booker.getId(), booker.getName(),
+				booker.getEmail());
+		comment = new Comment(1L, "Отличная дрель", item, booker, now);
+		lastBooking = BookingMapper.toBookingDto(booking);
+		nextBooking = BookingMapper.toBookingDto(booking);
+		comments = List.of(CommentMapper.commentToDto(comment, booker.getName()));
+	}
+
+	@Benchmark
+	public ItemDto itemToItemDto() {
+		return ItemMapper.toItemDto(item, lastBooking, nextBooking, comments);
+	}
+
+	@Benchmark
+	public BookingDtoFull bookingToBookingDtoFull() {
+		return BookingMapper.toBookingDtoFull(booking);
+	}
+
+	@Benchmark
+	public BookingDtoFull bookingViewToBookingDtoFull() {
+		return BookingMapper.toBookingDtoFull(bookingView);
+	}
+
+	@Benchmark
+	public BookingDto bookingToBookingDto() {
+		return BookingMapper.toBookingDto(booking);
+	}
+
+	@Benchmark
+	public CommentDto commentToCommentDto() {
+		return CommentMapper.commentToDto(comment, comment.getAuthor().getName());
+	}
+}
@@ -0,0 +1,109 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import ru.practicum.shareit.ShareItServer;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repisitory.BookingRepository;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.CommentRepository;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@State(Scope.Benchmark)
+public class SeededShareIt {
+	public static final int ITEMS_PER_OWNER = 200;
+	public static final int OTHER_OWNERS = 4;
+	public static final int BOOKERS = 20;
+	public static final int COMMENTS_PER_ITEM = 2;
+
+	private ConfigurableApplicationContext context;
+	private Long ownerId;
+	private Long bookerId;
+
+	@Setup(Level.Trial)
+	public void start() {
+		context = new SpringApplicationBuilder(ShareItServer.class)
+				.web(WebApplicationType.NONE)
+				.profiles("test")
+				.properties("spring.datasource.url=jdbc:h2:mem:shareit-benchmarks;DB_CLOSE_DELAY=-1",
+						"logging.level.root=WARN")
+				.run();
+		seed();
+	}
+
+	@TearDown(Level.Trial)
+	public void stop() {
+		context.close();
+	}
+
+	public <T> T getBean(Class<T> type) {
+		return context.getBean(type);
+	}
+
+	public Long getOwnerId() {
+		return ownerId;
+	}
+
+	public Long getBookerId() {
+		return bookerId;
+	}
+
+	private void seed() {
+		UserRepository userRepository = getBean(UserRepository.class);
+		ItemRepository itemRepository = getBean(ItemRepository.class);
+		BookingRepository bookingRepository = getBean(BookingRepository.class);
+		CommentRepository commentRepository = getBean(CommentRepository.class);
+		LocalDateTime now = LocalDateTime.now();
+
+		User owner = userRepository.save(new User(null, "owner", "owner@bench.ru"));
+		ownerId = owner.getId();
+		List<User> bookers = new ArrayList<>();
+		for (int i = 0; i < BOOKERS; i++) {
+			bookers.add(userRepository.save(new User(null, "booker" + i, "booker" + i + "@bench.ru")));
+		}
+		bookerId = bookers.get(0).getId();
+
+		List<Item> items = new ArrayList<>();
+		for (int i = 0; i < ITEMS_PER_OWNER; i++) {
+			items.add(new Item(null, "Дрель " + i, "Аккумуляторная дрель модель " + i, true, owner, null));
+		}
+		for (int o = 0; o < OTHER_OWNERS; o++) {
+			User other = userRepository.save(new User(null, "other" + o, "other" + o + "@bench.ru"));
+			for (int i = 0; i < ITEMS_PER_OWNER; i++) {
+				items.add(new Item(null, "Отвертка " + i, "Крестовая отвертка номер " + i, i % 5 != 0, other,
+						null));
+			}
+		}
+		items = itemRepository.saveAll(items);
+
+		List<Booking> bookings = new ArrayList<>();
+		List<Comment> comments = new ArrayList<>();
+		for (int i = 0; i < items.size(); i++) {
+			Item item = items.get(i);
+			User booker = bookers.get(i % BOOKERS);
+			bookings.add(new Booking(null, now.minusDays(10), now.minusDays(9), item, booker, Status.APPROVED));
+			bookings.add(new Booking(null, now.minusDays(1), now.plusDays(1), item, booker, Status.APPROVED));
+			bookings.add(new Booking(null, now.plusDays(2), now.plusDays(3), item, booker, Status.WAITING));
+			bookings.add(new Booking(null, now.plusDays(4), now.plusDays(5), item, booker, Status.REJECTED));
+			for (int c = 0; c < COMMENTS_PER_ITEM; c++) {
+				comments.add(new Comment(null, "Отзыв " + c, item, booker, now.minusDays(8)));
+			}
+		}
+		bookingRepository.saveAll(bookings);
+		commentRepository.saveAll(comments);
+	}
+}
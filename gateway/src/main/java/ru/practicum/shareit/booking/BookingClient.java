@@ -2,36 +2,59 @@ package ru.practicum.shareit.booking;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+import ru.practicum.shareit.booking.model.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.exception.BookingStateException;
+
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
+    private final ResponseCache responseCache;
+
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            RestTemplateBuilder builder,
+            @Qualifier("shareitServerRequestFactory") ClientHttpRequestFactory requestFactory,
+            RequestCoalescer requestCoalescer,
+            ResponseCache responseCache
+    ) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                requestCoalescer
         );
+        this.responseCache = responseCache;
     }
 
     public ResponseEntity<Object> addBooking(int userId, BookingDtoDefault bookingDtoDefault) {
         log.info("Запрос на добавление бронирования {} от пользователя с id={}", bookingDtoDefault, userId);
-        return post("", userId, bookingDtoDefault);
+        ResponseEntity<Object> response = post("", userId, bookingDtoDefault);
+        if (bookingDtoDefault.getItemId() != null) {
+            responseCache.invalidateItem(bookingDtoDefault.getItemId());
+        }
+        return response;
     }
 
     public ResponseEntity<Object> approveBooking(int userId, int bookingId, boolean approved) {
@@ -41,11 +64,20 @@ public class BookingClient extends BaseClient {
                 userId,
                 approved
         );
-        return patch("/" + bookingId + "?approved={approved}",
+        ResponseEntity<Object> response = patch("/" + bookingId + "?approved={approved}",
                 userId,
                 Map.of("approved", approved),
                 null
         );
+        responseCache.invalidateBookedItem(response);
+        return response;
+    }
+
+    public ResponseEntity<Object> approveBookings(int userId, List<BookingStatusUpdateDto> updates) {
+        log.info("Запрос на одобрение/отклонение {} бронирований от пользователя с id={}", updates.size(), userId);
+        ResponseEntity<Object> response = patch("/batch", userId, null, updates);
+        responseCache.invalidateBookedItems(response);
+        return response;
     }
 
     public ResponseEntity<Object> getById(int userId, int bookingId) {
@@ -53,33 +85,41 @@ public class BookingClient extends BaseClient {
         return get("/" + bookingId, userId, null);
     }
 
-    public ResponseEntity<Object> getUserBookings(int userId, String state, int from, int size) {
+    public ResponseEntity<Object> getUserBookings(int userId, String state, int from, int size, String cursor) {
         try {
             BookingState.valueOf(state);
         } catch (IllegalArgumentException e) {
             throw new BookingStateException("Unknown state: " + state);
         }
         log.info("Запрос на просмотр своих бронирований от пользователя с id={}", userId);
-        Map<String, Object> parameters = Map.of(
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "state", state,
                 "from", from,
                 "size", size
-        );
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+        ));
+        if (cursor == null) {
+            return get("?state={state}&from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("?state={state}&from={from}&size={size}&cursor={cursor}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getOwnerBookings(int userId, String state, int from, int size) {
+    public ResponseEntity<Object> getOwnerBookings(int userId, String state, int from, int size, String cursor) {
         try {
             BookingState.valueOf(state);
         } catch (IllegalArgumentException e) {
             throw new BookingStateException("Unknown state: " + state);
         }
         log.info("Запрос на просмотр бронирований своих вещей от пользователя с id={}", userId);
-        Map<String, Object> parameters = Map.of(
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "state", state,
                 "from", from,
                 "size", size
-        );
-        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+        ));
+        if (cursor == null) {
+            return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/owner?state={state}&from={from}&size={size}&cursor={cursor}", userId, parameters);
     }
 }
@@ -0,0 +1,125 @@
+package ru.practicum.shareit.booking;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+import ru.practicum.shareit.booking.model.dto.BookingStatusUpdateDto;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.exception.BookingStateException;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/bookings";
+
+    private final ResponseCache responseCache;
+
+    @Autowired
+    public ReactiveBookingClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            WebClient.Builder builder,
+            ReactorClientHttpConnector shareitServerClientConnector,
+            @Value("${shareit-server.http.stream-read-timeout:30m}") Duration streamReadTimeout,
+            RequestCoalescer requestCoalescer,
+            ResponseCache responseCache
+    ) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(shareitServerClientConnector)
+                        .build(),
+                streamReadTimeout,
+                requestCoalescer
+        );
+        this.responseCache = responseCache;
+    }
+
+    public Mono<ResponseEntity<byte[]>> addBooking(int userId, BookingDtoDefault bookingDtoDefault) {
+        log.info("Запрос на добавление бронирования {} от пользователя с id={}", bookingDtoDefault, userId);
+        return post("", userId, bookingDtoDefault)
+                .doOnNext(response -> {
+                    if (bookingDtoDefault.getItemId() != null) {
+                        responseCache.invalidateItem(bookingDtoDefault.getItemId());
+                    }
+                });
+    }
+
+    public Mono<ResponseEntity<byte[]>> approveBooking(int userId, int bookingId, boolean approved) {
+        log.info(
+                "Запрос на одобрение/отклонение бронирования с id={} от пользователя с id={} с параметром approved={}",
+                bookingId,
+                userId,
+                approved
+        );
+        return patch("/" + bookingId + "?approved={approved}",
+                userId,
+                Map.of("approved", approved),
+                null
+        ).doOnNext(responseCache::invalidateBookedItem);
+    }
+
+    public Mono<ResponseEntity<byte[]>> approveBookings(int userId, List<BookingStatusUpdateDto> updates) {
+        log.info("Запрос на одобрение/отклонение {} бронирований от пользователя с id={}", updates.size(), userId);
+        return patch("/batch", userId, null, updates)
+                .doOnNext(responseCache::invalidateBookedItems);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getById(int userId, int bookingId) {
+        log.info("Запрос на просмотр бронирования с id={} от пользователя с id={}", bookingId, userId);
+        return get("/" + bookingId, userId, null);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getUserBookings(int userId, String state, int from, int size, String cursor) {
+        checkState(state);
+        log.info("Запрос на просмотр своих бронирований от пользователя с id={}", userId);
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "state", state,
+                "from", from,
+                "size", size
+        ));
+        if (cursor == null) {
+            return get("?state={state}&from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("?state={state}&from={from}&size={size}&cursor={cursor}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getOwnerBookings(int userId, String state, int from, int size, String cursor) {
+        checkState(state);
+        log.info("Запрос на просмотр бронирований своих вещей от пользователя с id={}", userId);
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "state", state,
+                "from", from,
+                "size", size
+        ));
+        if (cursor == null) {
+            return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/owner?state={state}&from={from}&size={size}&cursor={cursor}", userId, parameters);
+    }
+
+    private static void checkState(String state) {
+        try {
+            BookingState.valueOf(state);
+        } catch (IllegalArgumentException e) {
+            throw new BookingStateException("Unknown state: " + state);
+        }
+    }
+}
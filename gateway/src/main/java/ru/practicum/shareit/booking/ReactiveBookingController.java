@@ -0,0 +1,92 @@
+package ru.practicum.shareit.booking;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+import ru.practicum.shareit.booking.model.dto.BookingStatusUpdateDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.util.List;
+
+@RestController
+@RequestMapping("/bookings")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingController {
+    private final ReactiveBookingClient bookingClient;
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> addBooking(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @Valid @RequestBody BookingDtoDefault bookingDtoDefault
+    ) {
+        return bookingClient.addBooking(userId, bookingDtoDefault);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> approveBooking(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int bookingId,
+            @RequestParam boolean approved
+    ) {
+        return bookingClient.approveBooking(userId, bookingId, approved);
+    }
+
+    @PatchMapping("/batch")
+    public Mono<ResponseEntity<byte[]>> approveBookings(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestBody @NotEmpty(message = "Список бронирований не должен быть пустым")
+            List<@NotNull(message = "Решение по бронированию не должно быть null") @Valid BookingStatusUpdateDto> updates
+    ) {
+        return bookingClient.approveBookings(userId, updates);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<byte[]>> getById(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int bookingId
+    ) {
+        return bookingClient.getById(userId, bookingId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getUserBookings(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "0") @PositiveOrZero Integer from,
+            @RequestParam(defaultValue = "10") @Positive Integer size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return bookingClient.getUserBookings(userId, state, from, size, cursor);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<byte[]>> getOwnerBookings(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "0") @PositiveOrZero Integer from,
+            @RequestParam(defaultValue = "10") @Positive Integer size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return bookingClient.getOwnerBookings(userId, state, from, size, cursor);
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.model.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import javax.validation.constraints.NotNull;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingStatusUpdateDto {
+    @NotNull(message = "Id бронирования не должно быть null")
+    private Integer bookingId;
+    @NotNull(message = "Поле approved не должно быть null")
+    private Boolean approved;
+}
@@ -1,35 +1,121 @@
 package ru.practicum.shareit.client;
 
-import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
 
-@RequiredArgsConstructor
 public class BaseClient {
+    private static final int STREAM_BUFFER_SIZE = 4096;
+    private static final Set<String> NOT_RELAYED_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "te", "trailer",
+            "transfer-encoding", "upgrade", "content-length"
+    );
+
     private final RestTemplate restTemplate;
+    private final RestTemplate streamingRestTemplate;
+    private final RequestCoalescer requestCoalescer;
+
+    public BaseClient(RestTemplate restTemplate) {
+        this(restTemplate, restTemplate, null);
+    }
+
+    public BaseClient(RestTemplate restTemplate, RequestCoalescer requestCoalescer) {
+        this(restTemplate, restTemplate, requestCoalescer);
+    }
+
+    public BaseClient(RestTemplate restTemplate, RestTemplate streamingRestTemplate,
+                      RequestCoalescer requestCoalescer) {
+        this.restTemplate = restTemplate;
+        this.streamingRestTemplate = streamingRestTemplate;
+        this.requestCoalescer = requestCoalescer;
+    }
 
     protected ResponseEntity<Object> get(String path, Integer userId, Map<String, Object> parameters) {
-        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+        return get(path, userId, parameters, null);
+    }
+
+    protected ResponseEntity<Object> get(String path, Integer userId, Map<String, Object> parameters,
+                                         String ifNoneMatch) {
+        if (requestCoalescer == null) {
+            return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null, ifNoneMatch);
+        }
+        String key = userId + " " + path + " " + (parameters != null ? new TreeMap<>(parameters) : "") + " "
+                + ifNoneMatch;
+        return requestCoalescer.execute(
+                key,
+                () -> makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null, ifNoneMatch),
+                BaseClient::copyResponse
+        );
     }
 
     protected <T> ResponseEntity<Object> post(String path, Integer userId, T body) {
-        return makeAndSendRequest(HttpMethod.POST, path, userId, null, body);
+        return makeAndSendRequest(HttpMethod.POST, path, userId, null, body, null);
     }
 
     protected <T> ResponseEntity<Object> patch(String path, Integer userId, Map<String, Object> parameters, T body) {
-        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body, null);
     }
 
     protected ResponseEntity<Object> delete(String path, Integer userId) {
-        return makeAndSendRequest(HttpMethod.DELETE, path, userId, null, null);
+        return makeAndSendRequest(HttpMethod.DELETE, path, userId, null, null, null);
+    }
+
+    protected ResponseEntity<StreamingResponseBody> stream(String path, Integer userId, MediaType mediaType) {
+        HttpHeaders headers = defaultHeaders(userId);
+        headers.setAccept(List.of(mediaType));
+        URI uri = streamingRestTemplate.getUriTemplateHandler().expand(path);
+        ClientHttpResponse response;
+        HttpStatus status;
+        try {
+            ClientHttpRequest request = streamingRestTemplate.getRequestFactory().createRequest(uri, HttpMethod.GET);
+            request.getHeaders().putAll(headers);
+            response = request.execute();
+            status = response.getStatusCode();
+        } catch (IOException e) {
+            throw new ResourceAccessException("Ошибка ввода-вывода при запросе GET " + uri + ": " + e.getMessage(), e);
+        }
+        ResponseEntity.BodyBuilder gatewayResponse = ResponseEntity.status(status)
+                .headers(relayedHeaders(response.getHeaders()));
+        if (!status.is2xxSuccessful()) {
+            byte[] body;
+            try (response) {
+                body = StreamUtils.copyToByteArray(response.getBody());
+            } catch (IOException e) {
+                body = new byte[0];
+            }
+            byte[] errorBody = body;
+            return gatewayResponse.body(output -> output.write(errorBody));
+        }
+        return gatewayResponse.body(output -> {
+            try (response) {
+                InputStream body = response.getBody();
+                byte[] buffer = new byte[STREAM_BUFFER_SIZE];
+                int read;
+                while ((read = body.read(buffer)) != -1) {
+                    output.write(buffer, 0, read);
+                    output.flush();
+                }
+            }
+        });
     }
 
     private <T> ResponseEntity<Object> makeAndSendRequest(
@@ -37,21 +123,25 @@ public class BaseClient {
             String path,
             Integer userId,
             Map<String, Object> parameters,
-            T body
+            T body,
+            String ifNoneMatch
     ) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        HttpHeaders headers = defaultHeaders(userId);
+        if (ifNoneMatch != null) headers.setIfNoneMatch(ifNoneMatch);
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, headers);
 
-        ResponseEntity<Object> shareitServerResponse;
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
             if (parameters != null) {
-                shareitServerResponse = restTemplate.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = restTemplate.exchange(path, method, requestEntity, byte[].class, parameters);
             } else {
-                shareitServerResponse = restTemplate.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = restTemplate.exchange(path, method, requestEntity, byte[].class);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            return prepareGatewayResponse(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
         }
-        return prepareGatewayResponse(shareitServerResponse);
+        return prepareGatewayResponse(shareitServerResponse.getStatusCode(), shareitServerResponse.getHeaders(),
+                shareitServerResponse.getBody());
     }
 
     private HttpHeaders defaultHeaders(Integer userId) {
@@ -62,15 +152,28 @@ public class BaseClient {
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
+    static HttpHeaders relayedHeaders(HttpHeaders headers) {
+        HttpHeaders gatewayHeaders = new HttpHeaders();
+        if (headers != null) {
+            headers.forEach((name, values) -> {
+                if (!NOT_RELAYED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) gatewayHeaders.put(name, values);
+            });
         }
+        return gatewayHeaders;
+    }
+
+    static ResponseEntity<Object> copyResponse(ResponseEntity<Object> response) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        Object body = response.getBody() instanceof byte[] ? ((byte[]) response.getBody()).clone() : response.getBody();
+        return new ResponseEntity<>(body, headers, response.getStatusCode());
+    }
 
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+    private static ResponseEntity<Object> prepareGatewayResponse(HttpStatus status, HttpHeaders headers, byte[] body) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(status).headers(relayedHeaders(headers));
 
-        if (response.hasBody()) {
-            return responseBuilder.body(response.getBody());
+        if (body != null && body.length > 0) {
+            return responseBuilder.body(body);
         }
 
         return responseBuilder.build();
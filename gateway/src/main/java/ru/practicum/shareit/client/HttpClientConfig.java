@@ -0,0 +1,123 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class HttpClientConfig {
+    public static final String POOL_NAME = "shareit-server";
+    public static final String STREAMING_POOL_NAME = "shareit-server-streaming";
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager shareitServerConnectionManager(
+            @Value("${shareit-server.http.max-total:200}") int maxTotal,
+            @Value("${shareit-server.http.max-per-route:50}") int maxPerRoute,
+            @Value("${shareit-server.http.validate-after-inactivity:2s}") Duration validateAfterInactivity
+    ) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxTotal);
+        connectionManager.setDefaultMaxPerRoute(maxPerRoute);
+        connectionManager.setValidateAfterInactivity((int) validateAfterInactivity.toMillis());
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient shareitServerHttpClient(
+            @Qualifier("shareitServerConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+            @Value("${shareit-server.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${shareit-server.http.read-timeout:10s}") Duration readTimeout,
+            @Value("${shareit-server.http.connection-request-timeout:2s}") Duration connectionRequestTimeout,
+            @Value("${shareit-server.http.keep-alive:30s}") Duration keepAlive,
+            @Value("${shareit-server.http.idle-timeout:30s}") Duration idleTimeout
+    ) {
+        return httpClient(connectionManager, connectTimeout, readTimeout, connectionRequestTimeout, keepAlive,
+                idleTimeout);
+    }
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager shareitServerStreamingConnectionManager(
+            @Value("${shareit-server.http.stream-max-connections:20}") int maxConnections,
+            @Value("${shareit-server.http.validate-after-inactivity:2s}") Duration validateAfterInactivity
+    ) {
+        return shareitServerConnectionManager(maxConnections, maxConnections, validateAfterInactivity);
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient shareitServerStreamingHttpClient(
+            @Qualifier("shareitServerStreamingConnectionManager") PoolingHttpClientConnectionManager connectionManager,
+            @Value("${shareit-server.http.connect-timeout:2s}") Duration connectTimeout,
+            @Value("${shareit-server.http.stream-read-timeout:30m}") Duration streamReadTimeout,
+            @Value("${shareit-server.http.connection-request-timeout:2s}") Duration connectionRequestTimeout,
+            @Value("${shareit-server.http.keep-alive:30s}") Duration keepAlive,
+            @Value("${shareit-server.http.idle-timeout:30s}") Duration idleTimeout
+    ) {
+        return httpClient(connectionManager, connectTimeout, streamReadTimeout, connectionRequestTimeout, keepAlive,
+                idleTimeout);
+    }
+
+    @Bean
+    public HttpComponentsClientHttpRequestFactory shareitServerRequestFactory(
+            @Qualifier("shareitServerHttpClient") CloseableHttpClient httpClient
+    ) {
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    @Bean
+    public HttpComponentsClientHttpRequestFactory shareitServerStreamingRequestFactory(
+            @Qualifier("shareitServerStreamingHttpClient") CloseableHttpClient httpClient
+    ) {
+        return new HttpComponentsClientHttpRequestFactory(httpClient);
+    }
+
+    @Bean
+    public MeterBinder shareitServerConnectionPoolMetrics(
+            @Qualifier("shareitServerConnectionManager") PoolingHttpClientConnectionManager connectionManager
+    ) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, POOL_NAME);
+    }
+
+    @Bean
+    public MeterBinder shareitServerStreamingConnectionPoolMetrics(
+            @Qualifier("shareitServerStreamingConnectionManager") PoolingHttpClientConnectionManager connectionManager
+    ) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, STREAMING_POOL_NAME);
+    }
+
+    private static CloseableHttpClient httpClient(PoolingHttpClientConnectionManager connectionManager,
+                                                  Duration connectTimeout, Duration readTimeout,
+                                                  Duration connectionRequestTimeout, Duration keepAlive,
+                                                  Duration idleTimeout) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectTimeout((int) connectTimeout.toMillis())
+                .setSocketTimeout((int) readTimeout.toMillis())
+                .setConnectionRequestTimeout((int) connectionRequestTimeout.toMillis())
+                .build();
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .setKeepAliveStrategy((response, context) -> {
+                    long serverKeepAlive = DefaultConnectionKeepAliveStrategy.INSTANCE
+                            .getKeepAliveDuration(response, context);
+                    return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAlive.toMillis()) : keepAlive.toMillis();
+                })
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .disableAutomaticRetries()
+                .build();
+    }
+}
@@ -0,0 +1,114 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.http.client.HttpClientRequest;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public class ReactiveBaseClient {
+    private final WebClient webClient;
+    private final Duration streamReadTimeout;
+    private final RequestCoalescer requestCoalescer;
+
+    public ReactiveBaseClient(WebClient webClient, Duration streamReadTimeout) {
+        this(webClient, streamReadTimeout, null);
+    }
+
+    public ReactiveBaseClient(WebClient webClient, Duration streamReadTimeout, RequestCoalescer requestCoalescer) {
+        this.webClient = webClient;
+        this.streamReadTimeout = streamReadTimeout;
+        this.requestCoalescer = requestCoalescer;
+    }
+
+    protected Mono<ResponseEntity<byte[]>> get(String path, Integer userId, Map<String, Object> parameters) {
+        return get(path, userId, parameters, null);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> get(String path, Integer userId, Map<String, Object> parameters,
+                                               String ifNoneMatch) {
+        if (requestCoalescer == null) {
+            return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null, ifNoneMatch);
+        }
+        String key = userId + " " + path + " " + (parameters != null ? new TreeMap<>(parameters) : "") + " "
+                + ifNoneMatch;
+        return requestCoalescer.execute(
+                key,
+                makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null, ifNoneMatch),
+                ReactiveBaseClient::copyResponse
+        );
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> post(String path, Integer userId, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, null, body, null);
+    }
+
+    protected <T> Mono<ResponseEntity<byte[]>> patch(String path, Integer userId, Map<String, Object> parameters,
+                                                     T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body, null);
+    }
+
+    protected Mono<ResponseEntity<byte[]>> delete(String path, Integer userId) {
+        return makeAndSendRequest(HttpMethod.DELETE, path, userId, null, null, null);
+    }
+
+    protected Flux<DataBuffer> stream(String path, Integer userId, MediaType mediaType) {
+        return webClient.get()
+                .uri(path)
+                .headers(headers -> {
+                    headers.setAccept(List.of(mediaType));
+                    if (userId != null) headers.set("X-Sharer-User-Id", String.valueOf(userId));
+                })
+                .httpRequest(request -> {
+                    HttpClientRequest nativeRequest = request.getNativeRequest();
+                    nativeRequest.responseTimeout(streamReadTimeout);
+                })
+                .retrieve()
+                .bodyToFlux(DataBuffer.class);
+    }
+
+    private <T> Mono<ResponseEntity<byte[]>> makeAndSendRequest(
+            HttpMethod method,
+            String path,
+            Integer userId,
+            Map<String, Object> parameters,
+            T body,
+            String ifNoneMatch
+    ) {
+        WebClient.RequestBodySpec request = webClient.method(method)
+                .uri(path, parameters != null ? parameters : Map.of())
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON)
+                .headers(headers -> {
+                    if (userId != null) headers.set("X-Sharer-User-Id", String.valueOf(userId));
+                    if (ifNoneMatch != null) headers.setIfNoneMatch(ifNoneMatch);
+                });
+        WebClient.RequestHeadersSpec<?> requestWithBody = body != null ? request.bodyValue(body) : request;
+        return requestWithBody.exchangeToMono(response -> response.toEntity(byte[].class))
+                .map(response -> {
+                    ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode())
+                            .headers(BaseClient.relayedHeaders(response.getHeaders()));
+                    byte[] responseBody = response.getBody();
+                    if (responseBody != null && responseBody.length > 0) {
+                        return responseBuilder.body(responseBody);
+                    }
+                    return responseBuilder.build();
+                });
+    }
+
+    static ResponseEntity<byte[]> copyResponse(ResponseEntity<byte[]> response) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.putAll(response.getHeaders());
+        byte[] body = response.getBody() != null ? response.getBody().clone() : null;
+        return new ResponseEntity<>(body, headers, response.getStatusCode());
+    }
+}
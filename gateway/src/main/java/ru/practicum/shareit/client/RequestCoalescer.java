@@ -0,0 +1,92 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+@Component
+public class RequestCoalescer {
+    public static final String REQUESTS_METRIC = "shareit.gateway.coalescing.requests";
+    public static final String IN_FLIGHT_METRIC = "shareit.gateway.coalescing.in-flight";
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final Counter leaders;
+    private final Counter followers;
+
+    public RequestCoalescer(MeterRegistry meterRegistry) {
+        this.leaders = Counter.builder(REQUESTS_METRIC)
+                .description("GET-запросы к серверу, выполненные самостоятельно")
+                .tag("result", "leader")
+                .register(meterRegistry);
+        this.followers = Counter.builder(REQUESTS_METRIC)
+                .description("GET-запросы, получившие ответ уже выполняющегося одинакового запроса")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_METRIC, inFlight, Map::size)
+                .description("Выполняющиеся GET-запросы к серверу, к которым можно присоединиться")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> call, UnaryOperator<T> copy) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            followers.increment();
+            try {
+                return copy.apply((T) existing.join());
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                throw e;
+            }
+        }
+        leaders.increment();
+        try {
+            T result = call.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, future);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> execute(String key, Mono<T> call, UnaryOperator<T> copy) {
+        return Mono.defer(() -> {
+            CompletableFuture<Object> future = new CompletableFuture<>();
+            CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+            if (existing != null) {
+                followers.increment();
+                return Mono.fromFuture(existing.copy())
+                        .map(result -> copy.apply((T) result))
+                        .onErrorResume(CancellationException.class, e -> call);
+            }
+            leaders.increment();
+            return call
+                    .doOnNext(future::complete)
+                    .doOnError(future::completeExceptionally)
+                    .doFinally(signal -> {
+                        inFlight.remove(key, future);
+                        if (signal == SignalType.CANCEL) {
+                            future.cancel(false);
+                        } else {
+                            future.complete(null);
+                        }
+                    });
+        });
+    }
+}
@@ -0,0 +1,265 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+@Component
+@Slf4j
+public class ResponseCache {
+    public static final String ITEMS_CACHE_NAME = "gateway-items";
+    public static final String ITEM_REQUESTS_CACHE_NAME = "gateway-item-requests";
+    public static final String USERS_CACHE_NAME = "gateway-users";
+
+    private static final int VERSION_STRIPES = 64;
+
+    private final boolean enabled;
+    private final Region items;
+    private final Region itemRequests;
+    private final Region users;
+    private final ObjectMapper objectMapper;
+
+    public ResponseCache(@Value("${shareit-server.cache.enabled:false}") boolean enabled,
+                         @Value("${shareit-server.cache.max-size:10000}") long maxSize,
+                         @Value("${shareit-server.cache.ttl:30s}") Duration ttl,
+                         MeterRegistry meterRegistry,
+                         ObjectMapper objectMapper) {
+        this.enabled = enabled;
+        this.objectMapper = objectMapper;
+        this.items = new Region(maxSize, ttl, meterRegistry, ITEMS_CACHE_NAME);
+        this.itemRequests = new Region(maxSize, ttl, meterRegistry, ITEM_REQUESTS_CACHE_NAME);
+        this.users = new Region(maxSize, ttl, meterRegistry, USERS_CACHE_NAME);
+    }
+
+    public ResponseEntity<Object> getItem(int itemId, int userId, Supplier<ResponseEntity<Object>> call) {
+        return items.get(itemId, userId, call);
+    }
+
+    public ResponseEntity<Object> getItemRequest(int requestId, int userId, Supplier<ResponseEntity<Object>> call) {
+        return itemRequests.get(requestId, userId, call);
+    }
+
+    public ResponseEntity<Object> getUser(int userId, Supplier<ResponseEntity<Object>> call) {
+        return users.get(userId, userId, call);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItem(int itemId, int userId, Mono<ResponseEntity<byte[]>> call) {
+        return items.get(itemId, userId, call);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemRequest(int requestId, int userId, Mono<ResponseEntity<byte[]>> call) {
+        return itemRequests.get(requestId, userId, call);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getUser(int userId, Mono<ResponseEntity<byte[]>> call) {
+        return users.get(userId, userId, call);
+    }
+
+    public void invalidateItem(int itemId) {
+        items.invalidate(itemId);
+    }
+
+    public void invalidateItemRequest(Integer requestId) {
+        if (requestId != null) {
+            itemRequests.invalidate(requestId);
+        }
+    }
+
+    public void invalidateItemRequests(Collection<Integer> requestIds) {
+        requestIds.forEach(this::invalidateItemRequest);
+    }
+
+    public void invalidateAllItemRequests() {
+        itemRequests.invalidateAll();
+    }
+
+    public void invalidateUser(int userId) {
+        users.invalidate(userId);
+    }
+
+    public void invalidateRequestOfItem(ResponseEntity<?> itemResponse) {
+        if (!itemResponse.getStatusCode().is2xxSuccessful()) {
+            return;
+        }
+        byte[] body = body(itemResponse);
+        if (body == null) {
+            invalidateAllItemRequests();
+            return;
+        }
+        try {
+            JsonNode requestId = objectMapper.readTree(body).path("requestId");
+            if (requestId.canConvertToInt()) {
+                invalidateItemRequest(requestId.intValue());
+            }
+        } catch (IOException e) {
+            log.warn("Не удалось прочитать запрос из ответа на изменение вещи: {}", e.getMessage());
+            invalidateAllItemRequests();
+        }
+    }
+
+    public void invalidateBookedItem(ResponseEntity<?> bookingResponse) {
+        byte[] body = body(bookingResponse);
+        if (!bookingResponse.getStatusCode().is2xxSuccessful() || body == null) {
+            return;
+        }
+        try {
+            invalidateBookedItem(objectMapper.readTree(body));
+        } catch (IOException e) {
+            log.warn("Не удалось прочитать вещь из ответа на одобрение бронирования: {}", e.getMessage());
+        }
+    }
+
+    public void invalidateBookedItems(ResponseEntity<?> bookingResultsResponse) {
+        byte[] body = body(bookingResultsResponse);
+        if (!bookingResultsResponse.getStatusCode().is2xxSuccessful() || body == null) {
+            return;
+        }
+        try {
+            for (JsonNode result : objectMapper.readTree(body)) {
+                invalidateBookedItem(result.path("booking"));
+            }
+        } catch (IOException e) {
+            log.warn("Не удалось прочитать вещи из ответа на одобрение бронирований: {}", e.getMessage());
+        }
+    }
+
+    private void invalidateBookedItem(JsonNode booking) {
+        JsonNode itemId = booking.path("item").path("id");
+        if (itemId.canConvertToInt()) {
+            invalidateItem(itemId.intValue());
+        }
+    }
+
+    private static byte[] body(ResponseEntity<?> response) {
+        return response.getBody() instanceof byte[] ? (byte[]) response.getBody() : null;
+    }
+
+    private static Map<Integer, ResponseEntity<Object>> merge(Map<Integer, ResponseEntity<Object>> cached,
+                                                              Map<Integer, ResponseEntity<Object>> added) {
+        Map<Integer, ResponseEntity<Object>> merged = new HashMap<>(cached);
+        merged.putAll(added);
+        return Map.copyOf(merged);
+    }
+
+    private class Region {
+        private final Cache<Integer, Map<Integer, ResponseEntity<Object>>> responses;
+        private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+        Region(long maxSize, Duration ttl, MeterRegistry meterRegistry, String name) {
+            this.responses = Caffeine.newBuilder()
+                    .maximumWeight(maxSize)
+                    .<Integer, Map<Integer, ResponseEntity<Object>>>weigher((id, byUser) -> byUser.size())
+                    .expireAfter(new FirstWriteExpiry(ttl))
+                    .recordStats()
+                    .build();
+            CaffeineCacheMetrics.monitor(meterRegistry, responses, name);
+        }
+
+        ResponseEntity<Object> get(int id, int userId, Supplier<ResponseEntity<Object>> call) {
+            if (!enabled) {
+                return call.get();
+            }
+            ResponseEntity<Object> cached = lookup(id, userId);
+            if (cached != null) {
+                return cached;
+            }
+            long version = versions.get(stripe(id));
+            ResponseEntity<Object> response = call.get();
+            store(id, userId, version, response);
+            return response;
+        }
+
+        Mono<ResponseEntity<byte[]>> get(int id, int userId, Mono<ResponseEntity<byte[]>> call) {
+            if (!enabled) {
+                return call;
+            }
+            return Mono.defer(() -> {
+                ResponseEntity<Object> cached = lookup(id, userId);
+                if (cached != null) {
+                    return Mono.just(new ResponseEntity<>((byte[]) cached.getBody(), cached.getHeaders(),
+                            cached.getStatusCode()));
+                }
+                long version = versions.get(stripe(id));
+                return call.doOnNext(response -> store(id, userId, version,
+                        new ResponseEntity<>(response.getBody(), response.getHeaders(), response.getStatusCode())));
+            });
+        }
+
+        private ResponseEntity<Object> lookup(int id, int userId) {
+            Map<Integer, ResponseEntity<Object>> byUser = responses.getIfPresent(id);
+            ResponseEntity<Object> cached = byUser == null ? null : byUser.get(userId);
+            return cached == null ? null : BaseClient.copyResponse(cached);
+        }
+
+        private void store(int id, int userId, long version, ResponseEntity<Object> response) {
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                return;
+            }
+            Map<Integer, ResponseEntity<Object>> added = Map.of(userId, BaseClient.copyResponse(response));
+            responses.asMap().compute(id, (key, current) -> {
+                if (versions.get(stripe(id)) != version) {
+                    return current;
+                }
+                return current == null ? added : merge(current, added);
+            });
+        }
+
+        void invalidate(int id) {
+            versions.incrementAndGet(stripe(id));
+            responses.invalidate(id);
+        }
+
+        void invalidateAll() {
+            for (int i = 0; i < VERSION_STRIPES; i++) {
+                versions.incrementAndGet(i);
+            }
+            responses.invalidateAll();
+        }
+
+        private int stripe(int id) {
+            return Math.floorMod(id, VERSION_STRIPES);
+        }
+    }
+
+    private static class FirstWriteExpiry implements Expiry<Integer, Map<Integer, ResponseEntity<Object>>> {
+        private final long ttlNanos;
+
+        FirstWriteExpiry(Duration ttl) {
+            this.ttlNanos = ttl.toNanos();
+        }
+
+        @Override
+        public long expireAfterCreate(Integer id, Map<Integer, ResponseEntity<Object>> byUser, long currentTime) {
+            return ttlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Integer id, Map<Integer, ResponseEntity<Object>> byUser, long currentTime,
+                                      long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(Integer id, Map<Integer, ResponseEntity<Object>> byUser, long currentTime,
+                                    long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import javax.validation.ConstraintViolationException;
 import java.util.Objects;
@@ -22,6 +23,14 @@ public class ErrorHandler {
         return new ErrorResponse(error);
     }
 
+    @ExceptionHandler
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErrorResponse handleWebExchangeBindException(WebExchangeBindException e) {
+        String error = Objects.requireNonNull(e.getFieldError()).getDefaultMessage();
+        log.error(error);
+        return new ErrorResponse(error);
+    }
+
     @ExceptionHandler({BookingStateException.class, ConstraintViolationException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleBadRequest(RuntimeException e) {
@@ -0,0 +1,93 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.dto.ItemBatchResultDto;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.List;
+
+@Component
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ItemBatchImporter {
+    private final ItemClient itemClient;
+    private final ItemBatchRows batchRows;
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter resultWriter;
+    private final int chunkSize;
+
+    public ItemBatchImporter(ItemClient itemClient,
+                             ItemBatchRows batchRows,
+                             ObjectMapper objectMapper,
+                             @Value("${shareit-server.items.batch-chunk-size:500}") int chunkSize) {
+        this.itemClient = itemClient;
+        this.batchRows = batchRows;
+        this.objectMapper = objectMapper;
+        this.resultWriter = objectMapper.writerFor(ItemBatchResultDto.class);
+        this.chunkSize = chunkSize;
+    }
+
+    public void importItems(int userId, InputStream input, OutputStream output) throws IOException {
+        log.info("Запрос на пакетное добавление вещей от пользователя с id={}", userId);
+        List<ItemBatchRows.Row> chunk = new ArrayList<>();
+        int index = 0;
+        try (JsonParser parser = objectMapper.getFactory().createParser(input)) {
+            JsonToken token = parser.nextToken();
+            boolean array = token == JsonToken.START_ARRAY;
+            if (array) {
+                token = parser.nextToken();
+            }
+            while (token != null && token != JsonToken.END_ARRAY) {
+                JsonNode row;
+                try {
+                    row = objectMapper.readTree(parser);
+                } catch (JsonProcessingException e) {
+                    chunk.add(batchRows.malformed(index, e));
+                    break;
+                }
+                chunk.add(batchRows.parse(index++, row));
+                if (chunk.size() == chunkSize) {
+                    send(userId, chunk, output);
+                    chunk = new ArrayList<>();
+                }
+                token = parser.nextToken();
+            }
+        } catch (JsonProcessingException e) {
+            chunk.add(batchRows.malformed(index, e));
+        }
+        send(userId, chunk, output);
+    }
+
+    private void send(int userId, List<ItemBatchRows.Row> chunk, OutputStream output) throws IOException {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<ItemDto> items = batchRows.items(chunk);
+        List<ItemBatchResultDto> results;
+        if (items.isEmpty()) {
+            results = batchRows.results(chunk);
+        } else {
+            ResponseEntity<Object> response = itemClient.addItems(userId, items);
+            results = batchRows.results(chunk, response);
+        }
+        for (ItemBatchResultDto result : results) {
+            output.write(resultWriter.writeValueAsBytes(result));
+            output.write('\n');
+        }
+        output.flush();
+    }
+}
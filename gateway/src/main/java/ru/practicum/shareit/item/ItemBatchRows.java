@@ -0,0 +1,142 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.model.dto.ItemBatchResultDto;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class ItemBatchRows {
+    private static final TypeReference<List<ItemBatchResultDto>> RESULTS_TYPE = new TypeReference<>() {
+    };
+    private static final String MISSING_RESULT_MESSAGE = "Сервер не вернул результат для этой вещи";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public ItemBatchRows(ObjectMapper objectMapper, Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    Row parse(int index, JsonNode node) {
+        ItemDto itemDto;
+        try {
+            itemDto = objectMapper.treeToValue(node, ItemDto.class);
+        } catch (JsonProcessingException e) {
+            return reject(index, "Некорректная вещь: " + e.getOriginalMessage());
+        }
+        String error = itemDto != null ? validate(itemDto) : "Вещь не может быть пустой";
+        if (!error.isEmpty()) {
+            return reject(index, error);
+        }
+        return new Row(index, itemDto, null);
+    }
+
+    Row malformed(int index, Throwable cause) {
+        String message = cause instanceof JsonProcessingException
+                ? ((JsonProcessingException) cause).getOriginalMessage()
+                : cause.getMessage();
+        return reject(index, "Некорректный JSON: " + message);
+    }
+
+    List<ItemDto> items(List<Row> chunk) {
+        return chunk.stream()
+                .filter(row -> row.result == null)
+                .map(row -> row.item)
+                .collect(Collectors.toList());
+    }
+
+    List<ItemBatchResultDto> results(List<Row> chunk) {
+        return chunk.stream().map(row -> row.result).collect(Collectors.toList());
+    }
+
+    List<ItemBatchResultDto> results(List<Row> chunk, ResponseEntity<?> response) {
+        List<ItemBatchResultDto> results = results(chunk);
+        List<Integer> positions = new ArrayList<>();
+        for (int i = 0; i < chunk.size(); i++) {
+            if (chunk.get(i).result == null) {
+                positions.add(i);
+            }
+        }
+        byte[] body = response.getBody() instanceof byte[] ? (byte[]) response.getBody() : null;
+        if (response.getStatusCode().is2xxSuccessful()) {
+            for (ItemBatchResultDto result : readResults(body)) {
+                int position = positions.get(result.getIndex());
+                results.set(position, new ItemBatchResultDto(chunk.get(position).index, result.getStatus(),
+                        result.getItem(), result.getError()));
+            }
+            for (int position : positions) {
+                if (results.get(position) == null) {
+                    results.set(position, new ItemBatchResultDto(chunk.get(position).index,
+                            HttpStatus.BAD_GATEWAY.value(), null, MISSING_RESULT_MESSAGE));
+                }
+            }
+        } else {
+            String error = readError(body);
+            for (int position : positions) {
+                results.set(position, new ItemBatchResultDto(chunk.get(position).index,
+                        response.getStatusCodeValue(), null, error));
+            }
+        }
+        return results;
+    }
+
+    private Row reject(int index, String error) {
+        return new Row(index, null, new ItemBatchResultDto(index, HttpStatus.BAD_REQUEST.value(), null, error));
+    }
+
+    private String validate(ItemDto itemDto) {
+        return validator.validate(itemDto).stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    private List<ItemBatchResultDto> readResults(byte[] body) {
+        if (body == null || body.length == 0) {
+            return List.of();
+        }
+        try {
+            List<ItemBatchResultDto> results = objectMapper.readValue(body, RESULTS_TYPE);
+            return results != null ? results : List.of();
+        } catch (IOException e) {
+            log.warn("Не удалось прочитать ответ на пакетное добавление вещей: {}", e.getMessage());
+            return List.of();
+        }
+    }
+
+    private String readError(byte[] body) {
+        try {
+            return body != null ? objectMapper.readTree(body).path("error").asText(null) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    static class Row {
+        private final int index;
+        private final ItemDto item;
+        private final ItemBatchResultDto result;
+
+        private Row(int index, ItemDto item, ItemBatchResultDto result) {
+            this.index = index;
+            this.item = item;
+            this.result = result;
+        }
+    }
+}
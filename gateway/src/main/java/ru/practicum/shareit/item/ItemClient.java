@@ -2,36 +2,56 @@ package ru.practicum.shareit.item;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.item.model.dto.CommentDto;
 import ru.practicum.shareit.item.model.dto.ItemDto;
 
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 
 @Service
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
+    private final ResponseCache responseCache;
+
     @Autowired
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            RestTemplateBuilder builder,
+            @Qualifier("shareitServerRequestFactory") ClientHttpRequestFactory requestFactory,
+            RequestCoalescer requestCoalescer,
+            ResponseCache responseCache
+    ) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                requestCoalescer
         );
+        this.responseCache = responseCache;
     }
 
     public ResponseEntity<Object> getById(int userId, int itemId) {
         log.info("Запрос на просмотр вещи с id={} от пользователя с id={}", itemId, userId);
-        return get("/" + itemId, userId, null);
+        return responseCache.getItem(itemId, userId, () -> get("/" + itemId, userId, null));
     }
 
     public ResponseEntity<Object> getItemsByUserId(int userId, int from, int size) {
@@ -45,27 +65,59 @@ public class ItemClient extends BaseClient {
 
     public ResponseEntity<Object> addItem(int userId, ItemDto itemDto) {
         log.info("Запрос на добавление вещи {} от пользователя с id={}", itemDto, userId);
-        return post("", userId, itemDto);
+        ResponseEntity<Object> response = post("", userId, itemDto);
+        responseCache.invalidateItemRequest(itemDto.getRequestId());
+        return response;
+    }
+
+    public ResponseEntity<Object> addItems(int userId, List<ItemDto> itemDtos) {
+        log.info("Запрос на добавление {} вещей от пользователя с id={}", itemDtos.size(), userId);
+        ResponseEntity<Object> response = post("/batch", userId, itemDtos);
+        responseCache.invalidateItemRequests(itemDtos.stream()
+                .map(ItemDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+        return response;
     }
 
     public ResponseEntity<Object> updateItem(int userId, int itemId, ItemDto itemDto) {
         log.info("Запрос на обновление вещи с id={} от пользователя с id={}", itemId, userId);
-        return patch("/" + itemId, userId, null, itemDto);
+        ResponseEntity<Object> response = patch("/" + itemId, userId, null, itemDto);
+        responseCache.invalidateItem(itemId);
+        responseCache.invalidateRequestOfItem(response);
+        return response;
     }
 
     public ResponseEntity<Object> deleteItem(int userId, int itemId) {
         log.info("Запрос на удаление вещи с id={} от пользователя с id={}", itemId, userId);
-        return delete("/" + itemId, userId);
+        ResponseEntity<Object> response = delete("/" + itemId, userId);
+        responseCache.invalidateItem(itemId);
+        responseCache.invalidateRequestOfItem(response);
+        return response;
     }
 
-    public ResponseEntity<Object> findItems(int userId, String text, int from, int size) {
+    public ResponseEntity<Object> findItems(int userId, String text, int from, int size, String cursor) {
         log.info("Запрос на поиск вещей от пользователя с id={} по тексту '{}'", userId, text);
-        Map<String, Object> parameters = Map.of(
+        Map<String, Object> parameters = new HashMap<>(Map.of(
                 "text", text,
                 "from", from,
                 "size", size
+        ));
+        if (cursor == null) {
+            return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/search?text={text}&from={from}&size={size}&cursor={cursor}", userId, parameters);
+    }
+
+    public ResponseEntity<Object> getAvailability(int userId, int itemId, LocalDateTime from, LocalDateTime to,
+                                                  String ifNoneMatch) {
+        log.info("Запрос на просмотр свободных периодов вещи с id={} от пользователя с id={}", itemId, userId);
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to
         );
-        return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+        return get("/" + itemId + "/availability?from={from}&to={to}", userId, parameters, ifNoneMatch);
     }
 
     public ResponseEntity<Object> addComment(int userId, int itemId, CommentDto commentDto) {
@@ -75,6 +127,8 @@ public class ItemClient extends BaseClient {
                 itemId,
                 userId
         );
-        return post("/" + itemId + "/comment", userId, commentDto);
+        ResponseEntity<Object> response = post("/" + itemId + "/comment", userId, commentDto);
+        responseCache.invalidateItem(itemId);
+        return response;
     }
 }
@@ -1,6 +1,10 @@
 package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -13,19 +17,24 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.item.model.dto.CommentDto;
 import ru.practicum.shareit.item.model.dto.ItemDto;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
 
 @RestController
 @RequestMapping("/items")
 @RequiredArgsConstructor
 @Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemController {
     private final ItemClient itemClient;
+    private final ItemBatchImporter itemBatchImporter;
 
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
 
@@ -48,6 +57,18 @@ public class ItemController {
         return itemClient.addItem(userId, itemDto);
     }
 
+    @PostMapping(
+            value = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public ResponseEntity<StreamingResponseBody> addItems(@RequestHeader(USER_ID_HEADER) int userId,
+                                                          HttpServletRequest request) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> itemBatchImporter.importItems(userId, request.getInputStream(), output));
+    }
+
     @PatchMapping("/{itemId}")
     public ResponseEntity<Object> updateItem(@RequestHeader(USER_ID_HEADER) int userId,
                            @PathVariable int itemId, @RequestBody ItemDto itemDto) {
@@ -64,9 +85,21 @@ public class ItemController {
             @RequestHeader(USER_ID_HEADER) int userId,
             @RequestParam String text,
             @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-            @RequestParam(defaultValue = "10") @Positive int size
+            @RequestParam(defaultValue = "10") @Positive int size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return itemClient.findItems(userId, text, from, size, cursor);
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public ResponseEntity<Object> getAvailability(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int itemId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
     ) {
-        return itemClient.findItems(userId, text, from, size);
+        return itemClient.getAvailability(userId, itemId, from, to, ifNoneMatch);
     }
 
     @PostMapping("/{itemId}/comment")
@@ -0,0 +1,52 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.model.dto.ItemBatchResultDto;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Component
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemBatchImporter {
+    private final ReactiveItemClient itemClient;
+    private final ItemBatchRows batchRows;
+    private final int chunkSize;
+
+    public ReactiveItemBatchImporter(ReactiveItemClient itemClient,
+                                     ItemBatchRows batchRows,
+                                     @Value("${shareit-server.items.batch-chunk-size:500}") int chunkSize) {
+        this.itemClient = itemClient;
+        this.batchRows = batchRows;
+        this.chunkSize = chunkSize;
+    }
+
+    public Flux<ItemBatchResultDto> importItems(int userId, Flux<JsonNode> rows) {
+        log.info("Запрос на пакетное добавление вещей от пользователя с id={}", userId);
+        AtomicInteger next = new AtomicInteger();
+        return rows
+                .map(row -> batchRows.parse(next.getAndIncrement(), row))
+                .onErrorResume(ServerWebInputException.class,
+                        e -> Mono.just(batchRows.malformed(next.get(), e.getMostSpecificCause())))
+                .buffer(chunkSize)
+                .concatMap(chunk -> send(userId, chunk));
+    }
+
+    private Flux<ItemBatchResultDto> send(int userId, List<ItemBatchRows.Row> chunk) {
+        List<ItemDto> items = batchRows.items(chunk);
+        if (items.isEmpty()) {
+            return Flux.fromIterable(batchRows.results(chunk));
+        }
+        return itemClient.addItems(userId, items)
+                .flatMapIterable(response -> batchRows.results(chunk, response));
+    }
+}
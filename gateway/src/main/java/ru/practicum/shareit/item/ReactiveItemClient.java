@@ -0,0 +1,135 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/items";
+
+    private final ResponseCache responseCache;
+
+    @Autowired
+    public ReactiveItemClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            WebClient.Builder builder,
+            ReactorClientHttpConnector shareitServerClientConnector,
+            @Value("${shareit-server.http.stream-read-timeout:30m}") Duration streamReadTimeout,
+            RequestCoalescer requestCoalescer,
+            ResponseCache responseCache
+    ) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(shareitServerClientConnector)
+                        .build(),
+                streamReadTimeout,
+                requestCoalescer
+        );
+        this.responseCache = responseCache;
+    }
+
+    public Mono<ResponseEntity<byte[]>> getById(int userId, int itemId) {
+        log.info("Запрос на просмотр вещи с id={} от пользователя с id={}", itemId, userId);
+        return responseCache.getItem(itemId, userId, get("/" + itemId, userId, null));
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemsByUserId(int userId, int from, int size) {
+        log.info("Запрос на просмотр своих вещей от пользователя с id={}", userId);
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("?from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> addItem(int userId, ItemDto itemDto) {
+        log.info("Запрос на добавление вещи {} от пользователя с id={}", itemDto, userId);
+        return post("", userId, itemDto)
+                .doOnNext(response -> responseCache.invalidateItemRequest(itemDto.getRequestId()));
+    }
+
+    public Mono<ResponseEntity<byte[]>> addItems(int userId, List<ItemDto> itemDtos) {
+        log.info("Запрос на добавление {} вещей от пользователя с id={}", itemDtos.size(), userId);
+        return post("/batch", userId, itemDtos)
+                .doOnNext(response -> responseCache.invalidateItemRequests(itemDtos.stream()
+                        .map(ItemDto::getRequestId)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.toSet())));
+    }
+
+    public Mono<ResponseEntity<byte[]>> updateItem(int userId, int itemId, ItemDto itemDto) {
+        log.info("Запрос на обновление вещи с id={} от пользователя с id={}", itemId, userId);
+        return patch("/" + itemId, userId, null, itemDto)
+                .doOnNext(response -> {
+                    responseCache.invalidateItem(itemId);
+                    responseCache.invalidateRequestOfItem(response);
+                });
+    }
+
+    public Mono<ResponseEntity<byte[]>> deleteItem(int userId, int itemId) {
+        log.info("Запрос на удаление вещи с id={} от пользователя с id={}", itemId, userId);
+        return delete("/" + itemId, userId)
+                .doOnNext(response -> {
+                    responseCache.invalidateItem(itemId);
+                    responseCache.invalidateRequestOfItem(response);
+                });
+    }
+
+    public Mono<ResponseEntity<byte[]>> findItems(int userId, String text, int from, int size, String cursor) {
+        log.info("Запрос на поиск вещей от пользователя с id={} по тексту '{}'", userId, text);
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        ));
+        if (cursor == null) {
+            return get("/search?text={text}&from={from}&size={size}", userId, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("/search?text={text}&from={from}&size={size}&cursor={cursor}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAvailability(int userId, int itemId, LocalDateTime from, LocalDateTime to,
+                                                        String ifNoneMatch) {
+        log.info("Запрос на просмотр свободных периодов вещи с id={} от пользователя с id={}", itemId, userId);
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "to", to
+        );
+        return get("/" + itemId + "/availability?from={from}&to={to}", userId, parameters, ifNoneMatch);
+    }
+
+    public Mono<ResponseEntity<byte[]>> addComment(int userId, int itemId, CommentDto commentDto) {
+        log.info(
+                "Запрос на добавление комментария {} к вещи с id={} от пользователя с id={}",
+                commentDto,
+                itemId,
+                userId
+        );
+        return post("/" + itemId + "/comment", userId, commentDto)
+                .doOnNext(response -> responseCache.invalidateItem(itemId));
+    }
+}
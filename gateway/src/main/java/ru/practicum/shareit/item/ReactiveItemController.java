@@ -0,0 +1,127 @@
+package ru.practicum.shareit.item;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.model.dto.CommentDto;
+import ru.practicum.shareit.item.model.dto.ItemBatchResultDto;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import java.time.LocalDateTime;
+
+@RestController
+@RequestMapping("/items")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemController {
+    private final ReactiveItemClient itemClient;
+    private final ReactiveItemBatchImporter itemBatchImporter;
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<byte[]>> getItemById(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int itemId
+    ) {
+        return itemClient.getById(userId, itemId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getItemsByUserId(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(defaultValue = "10") @Positive int size
+    ) {
+        return itemClient.getItemsByUserId(userId, from, size);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> addItem(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestBody @Valid ItemDto itemDto
+    ) {
+        return itemClient.addItem(userId, itemDto);
+    }
+
+    @PostMapping(
+            value = "/batch",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE},
+            produces = MediaType.APPLICATION_NDJSON_VALUE
+    )
+    public Flux<ItemBatchResultDto> addItems(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestBody Flux<JsonNode> rows
+    ) {
+        return itemBatchImporter.importItems(userId, rows);
+    }
+
+    @PatchMapping("/{itemId}")
+    public Mono<ResponseEntity<byte[]>> updateItem(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int itemId,
+            @RequestBody ItemDto itemDto
+    ) {
+        return itemClient.updateItem(userId, itemId, itemDto);
+    }
+
+    @DeleteMapping("/{itemId}")
+    public Mono<ResponseEntity<byte[]>> deleteItem(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int itemId
+    ) {
+        return itemClient.deleteItem(userId, itemId);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<byte[]>> findItems(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestParam String text,
+            @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(defaultValue = "10") @Positive int size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return itemClient.findItems(userId, text, from, size, cursor);
+    }
+
+    @GetMapping("/{itemId}/availability")
+    public Mono<ResponseEntity<byte[]>> getAvailability(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int itemId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch
+    ) {
+        return itemClient.getAvailability(userId, itemId, from, to, ifNoneMatch);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<byte[]>> addComment(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int itemId,
+            @RequestBody @Valid CommentDto commentDto
+    ) {
+        return itemClient.addComment(userId, itemId, commentDto);
+    }
+}
\ No newline at end of file
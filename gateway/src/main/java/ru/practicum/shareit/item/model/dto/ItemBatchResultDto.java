@@ -0,0 +1,13 @@
+package ru.practicum.shareit.item.model.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ItemBatchResultDto {
+    private final int index;
+    private final int status;
+    private final ItemDto item;
+    private final String error;
+}
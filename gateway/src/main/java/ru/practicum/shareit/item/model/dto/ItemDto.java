@@ -7,6 +7,7 @@ import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 import java.util.List;
 
 @Data
@@ -14,8 +15,10 @@ import java.util.List;
 public class ItemDto {
     private Integer id;
     @NotBlank(message = "Имя вещи не может быть пустым")
+    @Size(max = 127, message = "Имя вещи должно быть не длиннее 127 символов")
     private final String name;
     @NotBlank(message = "Описание вещи не может быть пустым")
+    @Size(max = 2000, message = "Описание вещи должно быть не длиннее 2000 символов")
     private final String description;
     @JsonProperty("available")
     @NotNull(message = "Должна быть указана доступность вещи")
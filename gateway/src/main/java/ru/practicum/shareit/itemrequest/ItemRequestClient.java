@@ -2,30 +2,52 @@ package ru.practicum.shareit.itemrequest;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.itemrequest.model.dto.ItemRequestDto;
 
 import java.util.Map;
 
 @Service
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemRequestClient extends BaseClient {
     private static final String API_PREFIX = "/requests";
 
+    private final ResponseCache responseCache;
+
     @Autowired
-    public ItemRequestClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemRequestClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            RestTemplateBuilder builder,
+            @Qualifier("shareitServerRequestFactory") ClientHttpRequestFactory requestFactory,
+            @Qualifier("shareitServerStreamingRequestFactory") ClientHttpRequestFactory streamingRequestFactory,
+            RequestCoalescer requestCoalescer,
+            ResponseCache responseCache
+    ) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                builder
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                        .requestFactory(() -> streamingRequestFactory)
+                        .build(),
+                requestCoalescer
         );
+        this.responseCache = responseCache;
     }
 
     public ResponseEntity<Object> addItemRequest(int userId, ItemRequestDto itemRequestDto) {
@@ -47,8 +69,13 @@ public class ItemRequestClient extends BaseClient {
         return get("/all?from={from}&size={size}", userId, parameters);
     }
 
+    public ResponseEntity<StreamingResponseBody> streamMatches(int userId) {
+        log.info("Подписка на совпадения по запросам на вещи от пользователя с id={}", userId);
+        return stream("/stream", userId, MediaType.TEXT_EVENT_STREAM);
+    }
+
     public ResponseEntity<Object> getById(int userId, int requestId) {
         log.info("Запрос на просмотр запроса на вещь с id={} от пользователя с id={}", requestId, userId);
-        return get("/" + requestId, userId, null);
+        return responseCache.getItemRequest(requestId, userId, () -> get("/" + requestId, userId, null));
     }
 }
@@ -1,6 +1,8 @@
 package ru.practicum.shareit.itemrequest;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -11,6 +13,7 @@ import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.practicum.shareit.itemrequest.model.dto.ItemRequestDto;
 
 import javax.validation.Valid;
@@ -21,6 +24,7 @@ import javax.validation.constraints.PositiveOrZero;
 @RequestMapping(path = "/requests")
 @RequiredArgsConstructor
 @Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemRequestController {
     private final ItemRequestClient itemRequestClient;
 
@@ -48,6 +52,11 @@ public class ItemRequestController {
         return itemRequestClient.getAllItemRequests(userId, from, size);
     }
 
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamMatches(@RequestHeader(USER_ID_HEADER) int userId) {
+        return itemRequestClient.streamMatches(userId);
+    }
+
     @GetMapping("/{requestId}")
     public ResponseEntity<Object> getItemRequestById(
             @RequestHeader(USER_ID_HEADER) int userId,
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.itemrequest;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.itemrequest.model.dto.ItemRequestDto;
+
+import java.time.Duration;
+import java.util.Map;
+
+@Service
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemRequestClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/requests";
+
+    private final ResponseCache responseCache;
+
+    @Autowired
+    public ReactiveItemRequestClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            WebClient.Builder builder,
+            ReactorClientHttpConnector shareitServerClientConnector,
+            @Value("${shareit-server.http.stream-read-timeout:30m}") Duration streamReadTimeout,
+            RequestCoalescer requestCoalescer,
+            ResponseCache responseCache
+    ) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(shareitServerClientConnector)
+                        .build(),
+                streamReadTimeout,
+                requestCoalescer
+        );
+        this.responseCache = responseCache;
+    }
+
+    public Mono<ResponseEntity<byte[]>> addItemRequest(int userId, ItemRequestDto itemRequestDto) {
+        log.info("Запрос на добавление запроса на вещь {} от пользователя с id={}", itemRequestDto, userId);
+        return post("", userId, itemRequestDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getItemRequestsByUserId(int userId) {
+        log.info("Запрос на просмотр своих запросов на вещи от пользователя с id={}", userId);
+        return get("", userId, null);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getAllItemRequests(int userId, int from, int size) {
+        log.info("Запрос на просмотр чужих запросов на вещи от пользователя с id={}", userId);
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("/all?from={from}&size={size}", userId, parameters);
+    }
+
+    public Flux<DataBuffer> streamMatches(int userId) {
+        log.info("Подписка на совпадения по запросам на вещи от пользователя с id={}", userId);
+        return stream("/stream", userId, MediaType.TEXT_EVENT_STREAM);
+    }
+
+    public Mono<ResponseEntity<byte[]>> getById(int userId, int requestId) {
+        log.info("Запрос на просмотр запроса на вещь с id={} от пользователя с id={}", requestId, userId);
+        return responseCache.getItemRequest(requestId, userId, get("/" + requestId, userId, null));
+    }
+}
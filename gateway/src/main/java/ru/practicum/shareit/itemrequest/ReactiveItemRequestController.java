@@ -0,0 +1,69 @@
+package ru.practicum.shareit.itemrequest;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.itemrequest.model.dto.ItemRequestDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@RestController
+@RequestMapping(path = "/requests")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemRequestController {
+    private final ReactiveItemRequestClient itemRequestClient;
+
+    private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> addItemRequest(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @Valid @RequestBody ItemRequestDto itemRequestDto
+    ) {
+        return itemRequestClient.addItemRequest(userId, itemRequestDto);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getItemRequestsByUserId(@RequestHeader(USER_ID_HEADER) int userId) {
+        return itemRequestClient.getItemRequestsByUserId(userId);
+    }
+
+    @GetMapping(path = "/all")
+    public Mono<ResponseEntity<byte[]>> getAllItemRequests(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+            @RequestParam(defaultValue = "10") @Positive int size
+    ) {
+        return itemRequestClient.getAllItemRequests(userId, from, size);
+    }
+
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Mono<Void> streamMatches(@RequestHeader(USER_ID_HEADER) int userId, ServerHttpResponse response) {
+        response.getHeaders().setContentType(MediaType.TEXT_EVENT_STREAM);
+        return response.writeAndFlushWith(itemRequestClient.streamMatches(userId).map(Mono::just));
+    }
+
+    @GetMapping("/{requestId}")
+    public Mono<ResponseEntity<byte[]>> getItemRequestById(
+            @RequestHeader(USER_ID_HEADER) int userId,
+            @PathVariable int requestId
+    ) {
+        return itemRequestClient.getById(userId, requestId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,91 @@
+package ru.practicum.shareit.user;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveBaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
+import ru.practicum.shareit.user.model.dto.UserDto;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+@Service
+@Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/users";
+
+    private final ResponseCache responseCache;
+
+    @Autowired
+    public ReactiveUserClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            WebClient.Builder builder,
+            ReactorClientHttpConnector shareitServerClientConnector,
+            @Value("${shareit-server.http.stream-read-timeout:30m}") Duration streamReadTimeout,
+            RequestCoalescer requestCoalescer,
+            ResponseCache responseCache
+    ) {
+        super(
+                builder
+                        .baseUrl(serverUrl + API_PREFIX)
+                        .clientConnector(shareitServerClientConnector)
+                        .build(),
+                streamReadTimeout,
+                requestCoalescer
+        );
+        this.responseCache = responseCache;
+    }
+
+    public Mono<ResponseEntity<byte[]>> getById(int userId) {
+        log.info("Запрос на просмотр пользователя с id={}", userId);
+        return responseCache.getUser(userId, get("/" + userId, null, null));
+    }
+
+    public Mono<ResponseEntity<byte[]>> getUsers(int from, int size, String cursor) {
+        log.info("Запрос на просмотр пользователей");
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "from", from,
+                "size", size
+        ));
+        if (cursor == null) {
+            return get("?from={from}&size={size}", null, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("?from={from}&size={size}&cursor={cursor}", null, parameters);
+    }
+
+    public Flux<DataBuffer> exportUsers() {
+        log.info("Запрос на выгрузку всех пользователей");
+        return stream("", null, MediaType.APPLICATION_NDJSON);
+    }
+
+    public Mono<ResponseEntity<byte[]>> addUser(UserDto userDto) {
+        log.info("Запрос на добавление пользователя {}", userDto);
+        return post("", null, userDto);
+    }
+
+    public Mono<ResponseEntity<byte[]>> updateUser(int userId, UserDto userDto) {
+        log.info("Запрос на обновление пользователя с id={}", userId);
+        return patch("/" + userId, null, null, userDto)
+                .doOnNext(response -> responseCache.invalidateUser(userId));
+    }
+
+    public Mono<ResponseEntity<byte[]>> deleteUser(int userId) {
+        log.info("Запрос на удаление пользователя с id={}", userId);
+        return delete("/" + userId, null)
+                .doOnNext(response -> responseCache.invalidateUser(userId));
+    }
+}
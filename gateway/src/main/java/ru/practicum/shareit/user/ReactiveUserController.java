@@ -0,0 +1,67 @@
+package ru.practicum.shareit.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.user.model.dto.UserDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+
+@RestController
+@RequestMapping("/users")
+@RequiredArgsConstructor
+@Validated
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveUserController {
+    private final ReactiveUserClient userClient;
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<byte[]>> getUserById(@PathVariable int userId) {
+        return userClient.getById(userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<byte[]>> getUsers(
+            @RequestParam(defaultValue = "0") @PositiveOrZero Integer from,
+            @RequestParam(defaultValue = "10") @Positive Integer size,
+            @RequestParam(required = false) String cursor
+    ) {
+        return userClient.getUsers(from, size, cursor);
+    }
+
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Mono<Void> exportUsers(ServerHttpResponse response) {
+        response.getHeaders().setContentType(MediaType.APPLICATION_NDJSON);
+        return response.writeAndFlushWith(userClient.exportUsers().map(Mono::just));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<byte[]>> addUser(@Valid @RequestBody UserDto userDto) {
+        return userClient.addUser(userDto);
+    }
+
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<byte[]>> updateUser(@PathVariable int userId, @RequestBody UserDto userDto) {
+        return userClient.updateUser(userId, userDto);
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<ResponseEntity<byte[]>> deleteUser(@PathVariable int userId) {
+        return userClient.deleteUser(userId);
+    }
+}
\ No newline at end of file
@@ -2,38 +2,76 @@ package ru.practicum.shareit.user;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.RequestCoalescer;
+import ru.practicum.shareit.client.ResponseCache;
 import ru.practicum.shareit.user.model.dto.UserDto;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
 @Slf4j
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class UserClient extends BaseClient {
     private static final String API_PREFIX = "/users";
 
+    private final ResponseCache responseCache;
+
     @Autowired
-    public UserClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public UserClient(
+            @Value("${shareit-server.url}") String serverUrl,
+            RestTemplateBuilder builder,
+            @Qualifier("shareitServerRequestFactory") ClientHttpRequestFactory requestFactory,
+            @Qualifier("shareitServerStreamingRequestFactory") ClientHttpRequestFactory streamingRequestFactory,
+            RequestCoalescer requestCoalescer,
+            ResponseCache responseCache
+    ) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                builder
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                        .requestFactory(() -> streamingRequestFactory)
+                        .build(),
+                requestCoalescer
         );
+        this.responseCache = responseCache;
     }
 
     public ResponseEntity<Object> getById(int userId) {
         log.info("Запрос на просмотр пользователя с id={}", userId);
-        return get("/" + userId, null, null);
+        return responseCache.getUser(userId, () -> get("/" + userId, null, null));
+    }
+
+    public ResponseEntity<Object> getUsers(int from, int size, String cursor) {
+        log.info("Запрос на просмотр пользователей");
+        Map<String, Object> parameters = new HashMap<>(Map.of(
+                "from", from,
+                "size", size
+        ));
+        if (cursor == null) {
+            return get("?from={from}&size={size}", null, parameters);
+        }
+        parameters.put("cursor", cursor);
+        return get("?from={from}&size={size}&cursor={cursor}", null, parameters);
     }
 
-    public ResponseEntity<Object> getUsers() {
-        log.info("Запрос на просмотр всех пользователей");
-        return get("", null, null);
+    public ResponseEntity<StreamingResponseBody> exportUsers() {
+        log.info("Запрос на выгрузку всех пользователей");
+        return stream("", null, MediaType.APPLICATION_NDJSON);
     }
 
     public ResponseEntity<Object> addUser(UserDto userDto) {
@@ -43,11 +81,15 @@ public class UserClient extends BaseClient {
 
     public ResponseEntity<Object> updateUser(int userId, UserDto userDto) {
         log.info("Запрос на обновление пользователя с id={}", userId);
-        return patch("/" + userId, null, null, userDto);
+        ResponseEntity<Object> response = patch("/" + userId, null, null, userDto);
+        responseCache.invalidateUser(userId);
+        return response;
     }
 
     public ResponseEntity<Object> deleteUser(int userId) {
         log.info("Запрос на удаление пользователя с id={}", userId);
-        return delete("/" + userId, null);
+        ResponseEntity<Object> response = delete("/" + userId, null);
+        responseCache.invalidateUser(userId);
+        return response;
     }
 }
@@ -0,0 +1,27 @@
+package ru.practicum.shareit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.reactive.context.ReactiveWebApplicationContext;
+import org.springframework.context.ApplicationContext;
+import org.springframework.test.context.ActiveProfiles;
+import ru.practicum.shareit.item.ItemController;
+import ru.practicum.shareit.item.ReactiveItemController;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("reactive")
+class ReactiveShareItGatewayTests {
+	@Autowired
+	private ApplicationContext context;
+
+	@Test
+	void contextLoadsReactiveControllersOnly() {
+		assertInstanceOf(ReactiveWebApplicationContext.class, context);
+		assertEquals(1, context.getBeanNamesForType(ReactiveItemController.class).length);
+		assertEquals(0, context.getBeanNamesForType(ItemController.class).length);
+	}
+}
@@ -14,17 +14,22 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.booking.BookingClient;
 import ru.practicum.shareit.booking.BookingController;
 import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+import ru.practicum.shareit.booking.model.dto.BookingStatusUpdateDto;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -178,6 +183,48 @@ public class BookingControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void shouldApproveBookingsInBatch() throws Exception {
+        List<BookingStatusUpdateDto> updates = List.of(
+                new BookingStatusUpdateDto(1, true),
+                new BookingStatusUpdateDto(2, false)
+        );
+        Mockito
+                .when(bookingClient.approveBookings(1, updates))
+                .thenReturn(response);
+
+        mvc.perform(patch("/bookings/batch")
+                        .content(mapper.writeValueAsString(updates))
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void shouldNotApproveBookingsWhenDecisionNull() throws Exception {
+        mvc.perform(patch("/bookings/batch")
+                        .content("[{\"bookingId\":1,\"approved\":true},{\"bookingId\":2}]")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+        Mockito.verify(bookingClient, Mockito.never()).approveBookings(anyInt(), any());
+    }
+
+    @Test
+    public void shouldNotApproveBookingsWhenListEmpty() throws Exception {
+        mvc.perform(patch("/bookings/batch")
+                        .content("[]")
+                        .header("X-Sharer-User-Id", 1)
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     public void shouldGetBookingById() throws Exception {
         Mockito
@@ -194,7 +241,7 @@ public class BookingControllerTest {
     @Test
     public void shouldGetUserBookings() throws Exception {
         Mockito
-                .when(bookingClient.getUserBookings(anyInt(), anyString(), anyInt(), anyInt()))
+                .when(bookingClient.getUserBookings(anyInt(), anyString(), anyInt(), anyInt(), isNull()))
                 .thenReturn(response);
 
         mvc.perform(get("/bookings")
@@ -207,7 +254,7 @@ public class BookingControllerTest {
     @Test
     public void shouldGetOwnerBookings() throws Exception {
         Mockito
-                .when(bookingClient.getOwnerBookings(anyInt(), anyString(), anyInt(), anyInt()))
+                .when(bookingClient.getOwnerBookings(anyInt(), anyString(), anyInt(), anyInt(), isNull()))
                 .thenReturn(response);
 
         mvc.perform(get("/bookings/owner")
@@ -216,4 +263,19 @@ public class BookingControllerTest {
                         .accept(MediaType.APPLICATION_JSON))
                 .andExpect(status().isOk());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldPassCursorToOwnerBookings() throws Exception {
+        Mockito
+                .when(bookingClient.getOwnerBookings(anyInt(), anyString(), anyInt(), anyInt(), eq("Mg")))
+                .thenReturn(ResponseEntity.ok().header("X-Next-Cursor", "Mw").build());
+
+        mvc.perform(get("/bookings/owner")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("cursor", "Mg")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "Mw"));
+    }
+}
@@ -7,10 +7,14 @@ import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.item.ItemBatchImporter;
+import ru.practicum.shareit.item.ItemBatchRows;
 import ru.practicum.shareit.item.ItemClient;
 import ru.practicum.shareit.item.ItemController;
 import ru.practicum.shareit.item.model.dto.CommentDto;
@@ -20,18 +24,30 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
+import java.util.List;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemController.class)
+@Import({ItemBatchImporter.class, ItemBatchRows.class})
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
 public class ItemControllerTest {
     @MockBean
@@ -192,7 +208,7 @@ public class ItemControllerTest {
     @Test
     public void shouldFindItems() throws Exception {
         Mockito
-                .when(itemClient.findItems(anyInt(), anyString(), anyInt(), anyInt()))
+                .when(itemClient.findItems(anyInt(), anyString(), anyInt(), anyInt(), isNull()))
                 .thenReturn(response);
 
         mvc.perform(get("/items/search")
@@ -203,6 +219,39 @@ public class ItemControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    public void shouldPassCursorToFindItems() throws Exception {
+        Mockito
+                .when(itemClient.findItems(anyInt(), anyString(), anyInt(), anyInt(), eq("Mg")))
+                .thenReturn(ResponseEntity.ok().header("X-Next-Cursor", "Mw").build());
+
+        mvc.perform(get("/items/search")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("text", "item")
+                        .param("cursor", "Mg")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(header().string("X-Next-Cursor", "Mw"));
+    }
+
+    @Test
+    public void shouldGetAvailability() throws Exception {
+        LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+        Mockito
+                .when(itemClient.getAvailability(1, 1, from, from.plusDays(2), "\"100-3\""))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag("100-3").build());
+
+        mvc.perform(get("/items/1/availability")
+                        .header("X-Sharer-User-Id", 1)
+                        .header("If-None-Match", "\"100-3\"")
+                        .param("from", "2030-01-01T00:00:00")
+                        .param("to", "2030-01-03T00:00:00")
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"100-3\""));
+    }
+
     @Test
     public void shouldAddComment() throws Exception {
         CommentDto commentDto = new CommentDto(
@@ -242,4 +291,125 @@ public class ItemControllerTest {
                 .andExpect(status().isBadRequest())
                 .andExpect(jsonPath("$.error").value("Текст комментария не может быть пустым"));
     }
+
+    @Test
+    public void shouldImportItemsFromNdjsonWithPerRowResults() throws Exception {
+        String serverResults = "[{\"index\":0,\"status\":201,\"item\":{\"id\":10,\"name\":\"item1\"}}," +
+                "{\"index\":1,\"status\":201,\"item\":{\"id\":11,\"name\":\"item3\"}}]";
+        Mockito
+                .when(itemClient.addItems(eq(1), argThat(items -> items.size() == 2)))
+                .thenReturn(ResponseEntity.ok(serverResults.getBytes(StandardCharsets.UTF_8)));
+        String body = "{\"name\":\"item1\",\"description\":\"d1\",\"available\":true}\n" +
+                "{\"name\":\" \",\"description\":\"d2\",\"available\":true}\n" +
+                "{\"name\":\"item3\",\"description\":\"d3\",\"available\":false}\n";
+
+        MvcResult result = mvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", 1)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON));
+
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(3, lines.length);
+        assertThat(lines[0], containsString("\"index\":0,\"status\":201"));
+        assertThat(lines[0], containsString("\"id\":10"));
+        assertThat(lines[1], containsString("\"index\":1,\"status\":400"));
+        assertThat(lines[1], containsString("Имя вещи не может быть пустым"));
+        assertThat(lines[2], containsString("\"index\":2,\"status\":201"));
+        assertThat(lines[2], containsString("\"id\":11"));
+    }
+
+    @Test
+    public void shouldRelayServerErrorForEveryRowOfJsonArray() throws Exception {
+        Mockito
+                .when(itemClient.addItems(anyInt(), any()))
+                .thenReturn(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body("{\"error\":\"Пользователь не найден\"}".getBytes(StandardCharsets.UTF_8)));
+
+        MvcResult result = mvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(List.of(itemDto, itemDto)))
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        for (String line : lines) {
+            assertThat(line, containsString("\"status\":404"));
+            assertThat(line, containsString("Пользователь не найден"));
+        }
+    }
+
+    @Test
+    public void shouldReportRowsAsFailedWhenServerReturnsEmptyBody() throws Exception {
+        Mockito
+                .when(itemClient.addItems(anyInt(), any()))
+                .thenReturn(ResponseEntity.ok().build());
+
+        MvcResult result = mvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", 1)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(mapper.writeValueAsString(List.of(itemDto, itemDto)))
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        for (String line : lines) {
+            assertThat(line, containsString("\"status\":502"));
+        }
+    }
+
+    @Test
+    public void shouldRejectTooLongRowsBeforeCallingServer() throws Exception {
+        String body = "{\"name\":\"" + "д".repeat(128) + "\",\"description\":\"d\",\"available\":true}\n" +
+                "{\"name\":\"item\",\"description\":\"" + "д".repeat(2001) + "\",\"available\":true}\n";
+
+        MvcResult result = mvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", 1)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content(body)
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertThat(lines[0], containsString("Имя вещи должно быть не длиннее 127 символов"));
+        assertThat(lines[1], containsString("Описание вещи должно быть не длиннее 2000 символов"));
+        Mockito.verify(itemClient, Mockito.never()).addItems(anyInt(), any());
+    }
+
+    @Test
+    public void shouldReportMalformedRowAndStop() throws Exception {
+        MvcResult result = mvc.perform(post("/items/batch")
+                        .header("X-Sharer-User-Id", 1)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"name\":\" \",\"description\":\"d\",\"available\":true}\n{\"name\":")
+                        .accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        String[] lines = result.getResponse().getContentAsString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertThat(lines[1], containsString("\"index\":1,\"status\":400"));
+        assertThat(lines[1], containsString("Некорректный JSON"));
+        Mockito.verify(itemClient, Mockito.never()).addItems(anyInt(), any());
+    }
 }
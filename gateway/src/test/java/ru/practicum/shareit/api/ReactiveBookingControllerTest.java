@@ -0,0 +1,154 @@
+package ru.practicum.shareit.api;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.ReactiveBookingClient;
+import ru.practicum.shareit.booking.ReactiveBookingController;
+import ru.practicum.shareit.booking.model.dto.BookingDtoDefault;
+import ru.practicum.shareit.booking.model.dto.BookingStatusUpdateDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+
+@WebFluxTest(controllers = ReactiveBookingController.class)
+public class ReactiveBookingControllerTest {
+    @MockBean
+    private ReactiveBookingClient bookingClient;
+    @Autowired
+    private WebTestClient webTestClient;
+
+    private final BookingDtoDefault bookingDtoDefault = new BookingDtoDefault(
+            1,
+            LocalDateTime.now().plusDays(1),
+            LocalDateTime.now().plusDays(2),
+            1,
+            null,
+            null
+    );
+
+    private final byte[] body = "{\"id\":1,\"status\":\"WAITING\"}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    public void shouldRelayAddedBooking() {
+        Mockito
+                .when(bookingClient.addBooking(anyInt(), any(BookingDtoDefault.class)))
+                .thenReturn(Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body)));
+
+        webTestClient.post()
+                .uri("/bookings")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(bookingDtoDefault)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_JSON)
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(1)
+                .jsonPath("$.status").isEqualTo("WAITING");
+    }
+
+    @Test
+    public void shouldNotAddBookingWhenStartInPast() {
+        webTestClient.post()
+                .uri("/bookings")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new BookingDtoDefault(
+                        1,
+                        LocalDateTime.now().minusDays(1),
+                        LocalDateTime.now().plusDays(2),
+                        1,
+                        null,
+                        null
+                ))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Поле start должно содержать дату, которая еще не наступила");
+
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    public void shouldRelayBatchApproval() {
+        List<BookingStatusUpdateDto> updates = List.of(
+                new BookingStatusUpdateDto(1, true),
+                new BookingStatusUpdateDto(2, false)
+        );
+        Mockito
+                .when(bookingClient.approveBookings(1, updates))
+                .thenReturn(Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body)));
+
+        webTestClient.patch()
+                .uri("/bookings/batch")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(updates)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    public void shouldNotApproveBookingsWhenDecisionNull() {
+        webTestClient.patch()
+                .uri("/bookings/batch")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[{\"bookingId\":1,\"approved\":true},{\"bookingId\":2}]")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    public void shouldNotApproveBookingsWhenListEmpty() {
+        webTestClient.patch()
+                .uri("/bookings/batch")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("[]")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        Mockito.verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    public void shouldNotGetBookingsWhenNegativeFrom() {
+        webTestClient.get()
+                .uri("/bookings?from=-1")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+    }
+
+    @Test
+    public void shouldGetUserBookingsWithCursor() {
+        Mockito
+                .when(bookingClient.getUserBookings(eq(1), eq("ALL"), eq(0), eq(10), eq("abc")))
+                .thenReturn(Mono.just(ResponseEntity.ok().header("X-Next-Cursor", "def").body(body)));
+
+        webTestClient.get()
+                .uri("/bookings?cursor=abc")
+                .header("X-Sharer-User-Id", "1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("X-Next-Cursor", "def");
+
+        Mockito.verify(bookingClient, Mockito.never()).getOwnerBookings(anyInt(), any(), anyInt(), anyInt(), isNull());
+    }
+}
@@ -0,0 +1,117 @@
+package ru.practicum.shareit.api;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.ItemBatchRows;
+import ru.practicum.shareit.item.ReactiveItemBatchImporter;
+import ru.practicum.shareit.item.ReactiveItemClient;
+import ru.practicum.shareit.item.ReactiveItemController;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+
+@WebFluxTest(controllers = ReactiveItemController.class)
+@Import({ReactiveItemBatchImporter.class, ItemBatchRows.class})
+public class ReactiveItemControllerTest {
+    @MockBean
+    private ReactiveItemClient itemClient;
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    public void shouldImportItemsFromNdjsonWithPerRowResults() {
+        String serverResults = "[{\"index\":0,\"status\":201,\"item\":{\"id\":10,\"name\":\"item1\"}}," +
+                "{\"index\":1,\"status\":201,\"item\":{\"id\":11,\"name\":\"item3\"}}]";
+        Mockito
+                .when(itemClient.addItems(eq(1), argThat(items -> items.size() == 2)))
+                .thenReturn(Mono.just(ResponseEntity.ok(serverResults.getBytes(StandardCharsets.UTF_8))));
+        String body = "{\"name\":\"item1\",\"description\":\"d1\",\"available\":true}\n" +
+                "{\"name\":\" \",\"description\":\"d2\",\"available\":true}\n" +
+                "{\"name\":\"item3\",\"description\":\"d3\",\"available\":false}\n";
+
+        String[] lines = importItems(MediaType.APPLICATION_NDJSON, body);
+
+        assertEquals(3, lines.length);
+        assertThat(lines[0], containsString("\"index\":0,\"status\":201"));
+        assertThat(lines[0], containsString("\"id\":10"));
+        assertThat(lines[1], containsString("\"index\":1,\"status\":400"));
+        assertThat(lines[1], containsString("Имя вещи не может быть пустым"));
+        assertThat(lines[2], containsString("\"index\":2,\"status\":201"));
+        assertThat(lines[2], containsString("\"id\":11"));
+    }
+
+    @Test
+    public void shouldRelayServerErrorForEveryRowOfJsonArray() {
+        Mockito
+                .when(itemClient.addItems(anyInt(), any()))
+                .thenReturn(Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .body("{\"error\":\"Пользователь не найден\"}".getBytes(StandardCharsets.UTF_8))));
+        String item = "{\"name\":\"item1\",\"description\":\"d1\",\"available\":true}";
+
+        String[] lines = importItems(MediaType.APPLICATION_JSON, "[" + item + "," + item + "]");
+
+        assertEquals(2, lines.length);
+        for (String line : lines) {
+            assertThat(line, containsString("\"status\":404"));
+            assertThat(line, containsString("Пользователь не найден"));
+        }
+    }
+
+    @Test
+    public void shouldReportRowsAsFailedWhenServerReturnsEmptyBody() {
+        Mockito
+                .when(itemClient.addItems(anyInt(), any()))
+                .thenReturn(Mono.just(ResponseEntity.ok().build()));
+        String item = "{\"name\":\"item1\",\"description\":\"d1\",\"available\":true}";
+
+        String[] lines = importItems(MediaType.APPLICATION_NDJSON, item + "\n" + item + "\n");
+
+        assertEquals(2, lines.length);
+        for (String line : lines) {
+            assertThat(line, containsString("\"status\":502"));
+        }
+    }
+
+    @Test
+    public void shouldReportMalformedRowAndStop() {
+        String[] lines = importItems(MediaType.APPLICATION_NDJSON,
+                "{\"name\":\" \",\"description\":\"d\",\"available\":true}\n{\"name\":");
+
+        assertEquals(2, lines.length);
+        assertThat(lines[1], containsString("\"index\":1,\"status\":400"));
+        assertThat(lines[1], containsString("Некорректный JSON"));
+        Mockito.verify(itemClient, Mockito.never()).addItems(anyInt(), any());
+    }
+
+    private String[] importItems(MediaType contentType, String body) {
+        byte[] response = webTestClient.post()
+                .uri("/items/batch")
+                .header("X-Sharer-User-Id", "1")
+                .contentType(contentType)
+                .accept(MediaType.APPLICATION_NDJSON)
+                .bodyValue(body)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody()
+                .returnResult()
+                .getResponseBody();
+        return new String(response, StandardCharsets.UTF_8).split("\n");
+    }
+}
@@ -0,0 +1,57 @@
+package ru.practicum.shareit.api;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import ru.practicum.shareit.user.ReactiveUserClient;
+import ru.practicum.shareit.user.ReactiveUserController;
+import ru.practicum.shareit.user.model.dto.UserDto;
+
+import java.nio.charset.StandardCharsets;
+
+@WebFluxTest(controllers = ReactiveUserController.class)
+public class ReactiveUserControllerTest {
+    @MockBean
+    private ReactiveUserClient userClient;
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    public void shouldNotAddUserWhenBlankName() {
+        webTestClient.post()
+                .uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new UserDto(1, "", "user1@email.com"))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Имя пользователя не может быть пустым");
+
+        Mockito.verifyNoInteractions(userClient);
+    }
+
+    @Test
+    public void shouldProxyUsersExport() {
+        DefaultDataBufferFactory bufferFactory = new DefaultDataBufferFactory();
+        Mockito
+                .when(userClient.exportUsers())
+                .thenReturn(Flux.just(
+                        bufferFactory.wrap("{\"id\":1}\n".getBytes(StandardCharsets.UTF_8)),
+                        bufferFactory.wrap("{\"id\":2}\n".getBytes(StandardCharsets.UTF_8))
+                ));
+
+        webTestClient.get()
+                .uri("/users")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBody(String.class).isEqualTo("{\"id\":1}\n{\"id\":2}\n");
+    }
+}
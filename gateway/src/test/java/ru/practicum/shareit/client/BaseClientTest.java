@@ -0,0 +1,151 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+public class BaseClientTest {
+    private static final String SERVER_URL = "http://localhost:9090/items";
+
+    private MockRestServiceServer server;
+    private BaseClient client;
+
+    @BeforeEach
+    public void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(SERVER_URL));
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+        client = new BaseClient(restTemplate);
+    }
+
+    @Test
+    public void shouldRelayBodyBytesAndHeaders() {
+        byte[] body = "[{\"id\":1,\"name\":\"Дрель\"}]".getBytes(StandardCharsets.UTF_8);
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Next-Cursor", "MQ");
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        server.expect(requestTo(SERVER_URL + "/search?text=drill"))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .headers(headers)
+                        .body(body));
+
+        ResponseEntity<Object> response = client.get("/search?text={text}", 1, Map.of("text", "drill"));
+
+        server.verify();
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("MQ", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertArrayEquals(body, (byte[]) response.getBody());
+    }
+
+    @Test
+    public void shouldRelayStreamErrorStatusAndBody() throws IOException {
+        byte[] body = "{\"error\":\"Пользователь с id=7 не найден\"}".getBytes(StandardCharsets.UTF_8);
+        server.expect(requestTo(SERVER_URL + "/stream"))
+                .andExpect(header("X-Sharer-User-Id", "7"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
+
+        ResponseEntity<StreamingResponseBody> response = client.stream("/stream", 7, MediaType.TEXT_EVENT_STREAM);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertArrayEquals(body, output.toByteArray());
+    }
+
+    @Test
+    public void shouldStreamSuccessfulBody() throws IOException {
+        byte[] body = "event:match\ndata:{\"itemId\":7}\n\n".getBytes(StandardCharsets.UTF_8);
+        server.expect(requestTo(SERVER_URL + "/stream"))
+                .andExpect(header(HttpHeaders.ACCEPT, MediaType.TEXT_EVENT_STREAM_VALUE))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.TEXT_EVENT_STREAM)
+                        .body(body));
+
+        ResponseEntity<StreamingResponseBody> response = client.stream("/stream", 7, MediaType.TEXT_EVENT_STREAM);
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        response.getBody().writeTo(output);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.TEXT_EVENT_STREAM, response.getHeaders().getContentType());
+        assertArrayEquals(body, output.toByteArray());
+    }
+
+    @Test
+    public void shouldRelayErrorBody() {
+        byte[] body = "{\"error\":\"Вещь не найдена\"}".getBytes(StandardCharsets.UTF_8);
+        server.expect(requestTo(SERVER_URL + "/7"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
+
+        ResponseEntity<Object> response = client.get("/7", 1, null);
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertArrayEquals(body, (byte[]) response.getBody());
+    }
+
+    @Test
+    public void shouldRelayNotModifiedWithoutBody() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"v1\"");
+        server.expect(requestTo(SERVER_URL + "/7"))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).headers(headers));
+
+        ResponseEntity<Object> response = client.get("/7", 1, null, "\"v1\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"v1\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+    }
+
+    @Test
+    public void shouldReturnIndependentCopiesWhenCoalescing() {
+        RestTemplate restTemplate = new RestTemplate();
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(SERVER_URL));
+        MockRestServiceServer coalescingServer = MockRestServiceServer.bindTo(restTemplate).build();
+        RequestCoalescer coalescer = new RequestCoalescer(new SimpleMeterRegistry());
+        BaseClient coalescingClient = new BaseClient(restTemplate, coalescer);
+        byte[] body = "{\"id\":1}".getBytes(StandardCharsets.UTF_8);
+        coalescingServer.expect(requestTo(SERVER_URL + "/1"))
+                .andExpect(header("X-Sharer-User-Id", "1"))
+                .andRespond(withStatus(HttpStatus.OK).contentType(MediaType.APPLICATION_JSON).body(body));
+
+        ResponseEntity<Object> response = coalescingClient.get("/1", 1, null);
+
+        coalescingServer.verify();
+        assertArrayEquals(body, (byte[]) response.getBody());
+    }
+}
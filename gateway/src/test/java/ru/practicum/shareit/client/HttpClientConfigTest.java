@@ -0,0 +1,64 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public class HttpClientConfigTest {
+    private final HttpClientConfig config = new HttpClientConfig();
+
+    @Test
+    public void shouldConfigurePoolLimits() {
+        PoolingHttpClientConnectionManager connectionManager =
+                config.shareitServerConnectionManager(20, 5, Duration.ofSeconds(2));
+
+        assertEquals(20, connectionManager.getMaxTotal());
+        assertEquals(5, connectionManager.getDefaultMaxPerRoute());
+        assertEquals(2000, connectionManager.getValidateAfterInactivity());
+        connectionManager.close();
+    }
+
+    @Test
+    public void shouldCapStreamsInSeparatePool() {
+        PoolingHttpClientConnectionManager connectionManager =
+                config.shareitServerConnectionManager(20, 5, Duration.ofSeconds(2));
+        PoolingHttpClientConnectionManager streamingConnectionManager =
+                config.shareitServerStreamingConnectionManager(3, Duration.ofSeconds(2));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        config.shareitServerConnectionPoolMetrics(connectionManager).bindTo(meterRegistry);
+        config.shareitServerStreamingConnectionPoolMetrics(streamingConnectionManager).bindTo(meterRegistry);
+
+        assertNotSame(connectionManager, streamingConnectionManager);
+        assertEquals(3, streamingConnectionManager.getMaxTotal());
+        assertEquals(3, streamingConnectionManager.getDefaultMaxPerRoute());
+        assertEquals(3.0, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", HttpClientConfig.STREAMING_POOL_NAME).gauge().value());
+        assertEquals(20.0, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", HttpClientConfig.POOL_NAME).gauge().value());
+        connectionManager.close();
+        streamingConnectionManager.close();
+    }
+
+    @Test
+    public void shouldExposePoolMetrics() {
+        PoolingHttpClientConnectionManager connectionManager =
+                config.shareitServerConnectionManager(20, 5, Duration.ofSeconds(2));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+        config.shareitServerConnectionPoolMetrics(connectionManager).bindTo(meterRegistry);
+
+        assertEquals(20.0, meterRegistry.get("httpcomponents.httpclient.pool.total.max")
+                .tag("httpclient", HttpClientConfig.POOL_NAME).gauge().value());
+        assertEquals(5.0, meterRegistry.get("httpcomponents.httpclient.pool.route.max.default")
+                .tag("httpclient", HttpClientConfig.POOL_NAME).gauge().value());
+        assertEquals(0.0, meterRegistry.get("httpcomponents.httpclient.pool.total.connections")
+                .tag("state", "leased").gauge().value());
+        connectionManager.close();
+    }
+}
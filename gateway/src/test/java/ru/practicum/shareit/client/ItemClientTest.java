@@ -0,0 +1,84 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.web.client.MockServerRestTemplateCustomizer;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.web.client.MockRestServiceServer;
+import ru.practicum.shareit.item.ItemClient;
+import ru.practicum.shareit.item.model.dto.ItemDto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+
+public class ItemClientTest {
+    private static final String SERVER_URL = "http://localhost:9090";
+
+    private MockRestServiceServer server;
+    private ResponseCache cache;
+    private ItemClient client;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    public void setUp() {
+        MockServerRestTemplateCustomizer customizer = new MockServerRestTemplateCustomizer();
+        cache = new ResponseCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry(), new ObjectMapper());
+        client = new ItemClient(SERVER_URL, new RestTemplateBuilder(customizer),
+                new SimpleClientHttpRequestFactory(), null, cache);
+        server = customizer.getServer();
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    public void shouldInvalidateOnlyRequestOfUpdatedItem() {
+        cache.getItemRequest(5, 1, call());
+        cache.getItemRequest(6, 1, call());
+        server.expect(requestTo(SERVER_URL + "/items/1"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"id\":1,\"name\":\"Дрель\",\"requestId\":5}".getBytes(StandardCharsets.UTF_8)));
+
+        client.updateItem(1, 1, new ItemDto(null, "Дрель", null, null, null, null, null, null));
+        cache.getItemRequest(5, 1, call());
+        cache.getItemRequest(6, 1, call());
+
+        server.verify();
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void shouldKeepRequestsWhenUpdateFailed() {
+        cache.getItemRequest(5, 1, call());
+        server.expect(requestTo(SERVER_URL + "/items/1"))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"Вещь не найдена\"}".getBytes(StandardCharsets.UTF_8)));
+
+        client.updateItem(1, 1, new ItemDto(null, "Дрель", null, null, null, null, null, null));
+        cache.getItemRequest(5, 1, call());
+
+        assertEquals(1, calls.get());
+    }
+
+    private Supplier<ResponseEntity<Object>> call() {
+        return () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.ok("{\"id\":5}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+}
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class ReactiveBaseClientTest {
+    private final List<ClientRequest> requests = new ArrayList<>();
+
+    private ReactiveBaseClient client(ClientResponse response) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://localhost:9090/items")
+                .exchangeFunction(request -> {
+                    requests.add(request);
+                    return Mono.just(response);
+                })
+                .build();
+        return new ReactiveBaseClient(webClient, Duration.ofMinutes(30));
+    }
+
+    @Test
+    public void shouldRelayBodyBytesAndHeaders() {
+        String body = "[{\"id\":1,\"name\":\"Дрель\"}]";
+        ReactiveBaseClient client = client(ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .header("X-Next-Cursor", "MQ")
+                .header(HttpHeaders.TRANSFER_ENCODING, "chunked")
+                .body(body)
+                .build());
+
+        ResponseEntity<byte[]> response = client.get("/search?text={text}", 1, Map.of("text", "drill")).block();
+
+        assertEquals(HttpMethod.GET, requests.get(0).method());
+        assertEquals("http://localhost:9090/items/search?text=drill", requests.get(0).url().toString());
+        assertEquals("1", requests.get(0).headers().getFirst("X-Sharer-User-Id"));
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("MQ", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertArrayEquals(body.getBytes(StandardCharsets.UTF_8), response.getBody());
+    }
+
+    @Test
+    public void shouldRelayErrorBody() {
+        String body = "{\"error\":\"Вещь не найдена\"}";
+        ReactiveBaseClient client = client(ClientResponse.create(HttpStatus.NOT_FOUND)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body)
+                .build());
+
+        ResponseEntity<byte[]> response = client.get("/7", 1, null).block();
+
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertArrayEquals(body.getBytes(StandardCharsets.UTF_8), response.getBody());
+    }
+
+    @Test
+    public void shouldRelayNotModifiedWithoutBody() {
+        ReactiveBaseClient client = client(ClientResponse.create(HttpStatus.NOT_MODIFIED)
+                .header(HttpHeaders.ETAG, "\"v1\"")
+                .build());
+
+        ResponseEntity<byte[]> response = client.get("/7", 1, null, "\"v1\"").block();
+
+        assertEquals("\"v1\"", requests.get(0).headers().getFirst(HttpHeaders.IF_NONE_MATCH));
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"v1\"", response.getHeaders().getETag());
+        assertNull(response.getBody());
+    }
+}
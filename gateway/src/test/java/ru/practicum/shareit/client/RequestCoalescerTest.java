@@ -0,0 +1,188 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RequestCoalescerTest {
+    private static final int THREADS = 8;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RequestCoalescer coalescer;
+
+    @BeforeEach
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RequestCoalescer(meterRegistry);
+    }
+
+    @Test
+    public void shouldShareOneCallBetweenConcurrentIdenticalRequests() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<StringBuilder>> results = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                results.add(executor.submit(() -> coalescer.execute("1 /items/1", () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return new StringBuilder("item");
+                }, StringBuilder::new)));
+            }
+            awaitInFlightFollowers(THREADS - 1);
+            release.countDown();
+
+            List<StringBuilder> responses = new ArrayList<>();
+            for (Future<StringBuilder> result : results) {
+                responses.add(result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, calls.get());
+            for (int i = 0; i < responses.size(); i++) {
+                assertEquals("item", responses.get(i).toString());
+                for (int j = i + 1; j < responses.size(); j++) {
+                    assertNotSame(responses.get(i), responses.get(j));
+                }
+            }
+            assertEquals(1.0, requests("leader"));
+            assertEquals(THREADS - 1.0, requests("coalesced"));
+            assertEquals(0.0, meterRegistry.get(RequestCoalescer.IN_FLIGHT_METRIC).gauge().value());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldNotShareCallsBetweenDifferentKeys() {
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.execute("1 /items/1", calls::incrementAndGet, value -> value);
+        coalescer.execute("2 /items/1", calls::incrementAndGet, value -> value);
+
+        assertEquals(2, calls.get());
+        assertEquals(2.0, requests("leader"));
+        assertEquals(0.0, requests("coalesced"));
+    }
+
+    @Test
+    public void shouldCallAgainAfterPreviousCallCompleted() {
+        AtomicInteger calls = new AtomicInteger();
+
+        coalescer.execute("1 /items/1", calls::incrementAndGet, value -> value);
+        coalescer.execute("1 /items/1", calls::incrementAndGet, value -> value);
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldPropagateFailureToAllWaitingRequests() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> leader = executor.submit(() -> coalescer.execute("1 /items/1", () -> {
+                await(release);
+                throw new IllegalStateException("Сервер недоступен");
+            }, value -> value));
+            awaitInFlight();
+            Future<Object> follower = executor.submit(() -> coalescer.execute("1 /items/1", () -> {
+                throw new AssertionError("Запрос не должен выполняться повторно");
+            }, value -> value));
+            awaitInFlightFollowers(1);
+            release.countDown();
+
+            Exception leaderError = assertThrows(Exception.class, () -> leader.get(5, TimeUnit.SECONDS));
+            Exception followerError = assertThrows(Exception.class, () -> follower.get(5, TimeUnit.SECONDS));
+            assertTrue(leaderError.getCause() instanceof IllegalStateException);
+            assertSame(leaderError.getCause(), followerError.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void shouldShareOneReactiveCallBetweenIdenticalRequests() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<StringBuilder> response = Sinks.one();
+        Mono<StringBuilder> call = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        });
+
+        CompletableFuture<StringBuilder> leader = coalescer.execute("1 /items/1", call, StringBuilder::new).toFuture();
+        CompletableFuture<StringBuilder> follower = coalescer.execute("1 /items/1", call, StringBuilder::new).toFuture();
+        response.tryEmitValue(new StringBuilder("item"));
+
+        assertEquals(1, calls.get());
+        assertEquals("item", leader.get(5, TimeUnit.SECONDS).toString());
+        assertEquals("item", follower.get(5, TimeUnit.SECONDS).toString());
+        assertNotSame(leader.get(), follower.get());
+        assertEquals(1.0, requests("leader"));
+        assertEquals(1.0, requests("coalesced"));
+        assertEquals(0.0, meterRegistry.get(RequestCoalescer.IN_FLIGHT_METRIC).gauge().value());
+    }
+
+    @Test
+    public void shouldCallAgainWhenReactiveLeaderWasCancelled() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        Sinks.One<StringBuilder> response = Sinks.one();
+        Mono<StringBuilder> call = Mono.defer(() -> {
+            calls.incrementAndGet();
+            return response.asMono();
+        });
+
+        CompletableFuture<StringBuilder> leader = coalescer.execute("1 /items/1", call, StringBuilder::new).toFuture();
+        CompletableFuture<StringBuilder> follower = coalescer.execute("1 /items/1", call, StringBuilder::new).toFuture();
+        leader.cancel(true);
+        response.tryEmitValue(new StringBuilder("item"));
+
+        assertEquals(2, calls.get());
+        assertEquals("item", follower.get(5, TimeUnit.SECONDS).toString());
+    }
+
+    private double requests(String result) {
+        return meterRegistry.get(RequestCoalescer.REQUESTS_METRIC).tag("result", result).counter().count();
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get(RequestCoalescer.IN_FLIGHT_METRIC).gauge().value() < 1) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitInFlightFollowers(int expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (requests("coalesced") < expected) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
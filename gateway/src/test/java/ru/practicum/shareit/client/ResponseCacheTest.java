@@ -0,0 +1,153 @@
+package ru.practicum.shareit.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public class ResponseCacheTest {
+    private ResponseCache cache;
+    private AtomicInteger calls;
+
+    @BeforeEach
+    public void setUp() {
+        cache = new ResponseCache(true, 100, Duration.ofMinutes(1), new SimpleMeterRegistry(), new ObjectMapper());
+        calls = new AtomicInteger();
+    }
+
+    @Test
+    public void shouldServeRepeatedReadsFromCache() {
+        ResponseEntity<Object> first = cache.getItem(1, 1, call(HttpStatus.OK));
+        ResponseEntity<Object> second = cache.getItem(1, 1, call(HttpStatus.OK));
+
+        assertEquals(1, calls.get());
+        assertArrayEquals((byte[]) first.getBody(), (byte[]) second.getBody());
+        assertNotSame(first.getBody(), second.getBody());
+    }
+
+    @Test
+    public void shouldKeepItemResponsesPerUser() {
+        cache.getItem(1, 1, call(HttpStatus.OK));
+        cache.getItem(1, 2, call(HttpStatus.OK));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldNotCacheErrors() {
+        cache.getUser(1, call(HttpStatus.NOT_FOUND));
+        cache.getUser(1, call(HttpStatus.NOT_FOUND));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldInvalidateItemForAllUsers() {
+        cache.getItem(1, 1, call(HttpStatus.OK));
+        cache.getItem(1, 2, call(HttpStatus.OK));
+        cache.getItem(10, 1, call(HttpStatus.OK));
+
+        cache.invalidateItem(1);
+        cache.getItem(1, 1, call(HttpStatus.OK));
+        cache.getItem(1, 2, call(HttpStatus.OK));
+        cache.getItem(10, 1, call(HttpStatus.OK));
+
+        assertEquals(5, calls.get());
+    }
+
+    @Test
+    public void shouldInvalidateUserAndItemRequests() {
+        cache.getUser(1, call(HttpStatus.OK));
+        cache.getItemRequest(1, 1, call(HttpStatus.OK));
+
+        cache.invalidateUser(1);
+        cache.invalidateItemRequest(1);
+        cache.getUser(1, call(HttpStatus.OK));
+        cache.getItemRequest(1, 1, call(HttpStatus.OK));
+
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    public void shouldInvalidateOnlyReferencedItemRequests() {
+        cache.getItemRequest(1, 1, call(HttpStatus.OK));
+        cache.getItemRequest(1, 2, call(HttpStatus.OK));
+        cache.getItemRequest(2, 1, call(HttpStatus.OK));
+        cache.getItemRequest(3, 1, call(HttpStatus.OK));
+
+        cache.invalidateItemRequests(List.of(1, 3));
+        cache.getItemRequest(1, 1, call(HttpStatus.OK));
+        cache.getItemRequest(1, 2, call(HttpStatus.OK));
+        cache.getItemRequest(2, 1, call(HttpStatus.OK));
+        cache.getItemRequest(3, 1, call(HttpStatus.OK));
+
+        assertEquals(7, calls.get());
+    }
+
+    @Test
+    public void shouldNotCacheReadThatRacedWithInvalidation() {
+        cache.getItem(1, 1, () -> {
+            ResponseEntity<Object> staleResponse = call(HttpStatus.OK).get();
+            cache.invalidateItem(1);
+            return staleResponse;
+        });
+        cache.getItem(1, 1, call(HttpStatus.OK));
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldServeRepeatedReactiveReadsFromCache() {
+        ResponseEntity<byte[]> first = cache.getItem(1, 1, reactiveCall()).block();
+        ResponseEntity<byte[]> second = cache.getItem(1, 1, reactiveCall()).block();
+
+        assertEquals(1, calls.get());
+        assertArrayEquals(first.getBody(), second.getBody());
+        assertNotSame(first.getBody(), second.getBody());
+    }
+
+    @Test
+    public void shouldNotCacheReactiveReadThatRacedWithInvalidation() {
+        cache.getUser(1, reactiveCall().doOnNext(response -> cache.invalidateUser(1))).block();
+        cache.getUser(1, reactiveCall()).block();
+
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    public void shouldCallServerEveryTimeWhenDisabled() {
+        cache = new ResponseCache(false, 100, Duration.ofMinutes(1), new SimpleMeterRegistry(), new ObjectMapper());
+
+        cache.getUser(1, call(HttpStatus.OK));
+        cache.getUser(1, call(HttpStatus.OK));
+
+        assertEquals(2, calls.get());
+    }
+
+    private Supplier<ResponseEntity<Object>> call(HttpStatus status) {
+        return () -> {
+            calls.incrementAndGet();
+            return ResponseEntity.status(status).body("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        };
+    }
+
+    private Mono<ResponseEntity<byte[]>> reactiveCall() {
+        return Mono.fromSupplier(() -> {
+            calls.incrementAndGet();
+            return ResponseEntity.ok("{\"id\":1}".getBytes(StandardCharsets.UTF_8));
+        });
+    }
+}
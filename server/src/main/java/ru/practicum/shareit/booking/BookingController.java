@@ -1,12 +1,18 @@
 package ru.practicum.shareit.booking;
 
 import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoFull;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.pagination.PageCursor;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 @RestController
 @RequestMapping(path = "/bookings")
@@ -26,6 +32,12 @@ public class BookingController {
 		return bookingService.updateBookingStatus(userId, bookingId, approved);
 	}
 
+	@PatchMapping("/batch")
+	public List<BookingBatchResultDto> updateBookingStatuses(@RequestHeader("X-Sharer-User-Id") Long userId,
+	                                                         @RequestBody List<BookingStatusUpdateDto> updates) {
+		return bookingService.updateBookingStatuses(userId, updates);
+	}
+
 	@GetMapping("/{bookingId}")
 	public BookingDtoFull getBookingInformation(@RequestHeader("X-Sharer-User-Id") Long userId,
 	                                            @PathVariable Long bookingId) {
@@ -33,18 +45,31 @@ public class BookingController {
 	}
 
 	@GetMapping
-	public Collection<BookingDtoFull> getBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
-	                                             @RequestParam(defaultValue = "ALL") String state,
-	                                             @RequestParam(defaultValue = "0") Integer from,
-	                                             @RequestParam(defaultValue = "10") Integer size) {
-		return bookingService.getBooking(userId, state, from, size);
+	public ResponseEntity<List<BookingDtoFull>> getBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
+	                                                       @RequestParam(defaultValue = "ALL") String state,
+	                                                       @RequestParam(defaultValue = "0") Integer from,
+	                                                       @RequestParam(defaultValue = "10") Integer size,
+	                                                       @RequestParam(required = false) String cursor) {
+		return withNextCursor(bookingService.getBooking(userId, state, from, size, cursor), size);
 	}
 
 	@GetMapping("/owner")
-	public Collection<BookingDtoFull> getYourBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
-	                                                 @RequestParam(defaultValue = "ALL") String state,
-	                                                 @RequestParam(defaultValue = "0") Integer from,
-	                                                 @RequestParam(defaultValue = "10") Integer size) {
-		return bookingService.getYourBooking(userId, state, from, size);
+	public ResponseEntity<List<BookingDtoFull>> getYourBooking(@RequestHeader("X-Sharer-User-Id") Long userId,
+	                                                           @RequestParam(defaultValue = "ALL") String state,
+	                                                           @RequestParam(defaultValue = "0") Integer from,
+	                                                           @RequestParam(defaultValue = "10") Integer size,
+	                                                           @RequestParam(required = false) String cursor) {
+		return withNextCursor(bookingService.getYourBooking(userId, state, from, size, cursor), size);
+	}
+
+	private static ResponseEntity<List<BookingDtoFull>> withNextCursor(Collection<BookingDtoFull> result,
+	                                                                   Integer size) {
+		List<BookingDtoFull> bookings = new ArrayList<>(result);
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (bookings.size() == size) {
+			BookingDtoFull last = bookings.get(bookings.size() - 1);
+			response.header(PageCursor.NEXT_CURSOR_HEADER, PageCursor.encode(last.getStart(), last.getId()));
+		}
+		return response.body(bookings);
 	}
 }
@@ -2,10 +2,13 @@ package ru.practicum.shareit.booking;
 
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoFull;
+import ru.practicum.shareit.booking.dto.BookingView;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.item.ItemMapper;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.UserMapper;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
 public class BookingMapper {
@@ -31,6 +34,30 @@ public class BookingMapper {
 		);
 	}
 
+	public static BookingDtoFull toBookingDtoFull(BookingView booking) {
+		return new BookingDtoFull(
+				booking.getId(),
+				booking.getStart(),
+				booking.getEnd(),
+				new ItemDto(
+						booking.getItemId(),
+						booking.getItemName(),
+						booking.getItemDescription(),
+						booking.getItemAvailable(),
+						booking.getItemRequestId(),
+						null,
+						null,
+						null
+				),
+				new UserDto(
+						booking.getBookerId(),
+						booking.getBookerName(),
+						booking.getBookerEmail()
+				),
+				booking.getStatus()
+		);
+	}
+
 	public static BookingDto toBookingDto(Booking booking) {
 		return new BookingDto(
 				booking.getId(),
@@ -0,0 +1,13 @@
+package ru.practicum.shareit.booking.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+
+@Data
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BookingBatchResultDto {
+	private final Long bookingId;
+	private final int status;
+	private final BookingDtoFull booking;
+	private final String error;
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import ru.practicum.shareit.booking.model.Status;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class BookingView {
+	private Long id;
+	private LocalDateTime start;
+	private LocalDateTime end;
+	private Status status;
+	private Long itemId;
+	private String itemName;
+	private String itemDescription;
+	private Boolean itemAvailable;
+	private Long itemRequestId;
+	private Long bookerId;
+	private String bookerName;
+	private String bookerEmail;
+}
@@ -0,0 +1,116 @@
+package ru.practicum.shareit.booking.interval;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repisitory.BookingRepository;
+
+import javax.annotation.PostConstruct;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Slf4j
+public class BookingIntervalIndex {
+	public static final List<Status> ACTIVE_STATUSES = List.of(Status.WAITING, Status.APPROVED);
+	private static final int STRIPES = 64;
+	private static final int BUILD_CHUNK_SIZE = 1000;
+
+	private final BookingRepository bookingRepository;
+	private final Map<Long, IntervalTree> trees = new ConcurrentHashMap<>();
+	private final Map<Long, Long> versions = new ConcurrentHashMap<>();
+	private final long epoch = System.currentTimeMillis();
+	private final Lock[] locks = new Lock[STRIPES];
+
+	public BookingIntervalIndex(BookingRepository bookingRepository) {
+		this.bookingRepository = bookingRepository;
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	@PostConstruct
+	public void build() {
+		LocalDateTime now = LocalDateTime.now();
+		int page = 0;
+		Slice<Booking> bookings;
+		do {
+			bookings = bookingRepository.findByEndAfterAndStatusIn(now, ACTIVE_STATUSES,
+					PageRequest.of(page++, BUILD_CHUNK_SIZE, Sort.by("id")));
+			bookings.forEach(this::add);
+		} while (bookings.hasNext());
+		log.info("Индекс интервалов бронирований построен для {} вещей", trees.size());
+	}
+
+	public Lock getLock(Long itemId) {
+		return locks[Math.floorMod(itemId.hashCode(), STRIPES)];
+	}
+
+	public boolean hasOverlap(Long itemId, LocalDateTime start, LocalDateTime end) {
+		Lock lock = getLock(itemId);
+		lock.lock();
+		try {
+			IntervalTree tree = trees.get(itemId);
+			return tree != null && tree.overlaps(start, end);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public List<Interval> getIntervals(Long itemId, LocalDateTime start, LocalDateTime end) {
+		Lock lock = getLock(itemId);
+		lock.lock();
+		try {
+			IntervalTree tree = trees.get(itemId);
+			return tree != null ? tree.overlapping(start, end) : new ArrayList<>();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public String getVersion(Long itemId) {
+		return epoch + "-" + versions.getOrDefault(itemId, 0L);
+	}
+
+	public void add(Booking booking) {
+		Long itemId = booking.getItem().getId();
+		Lock lock = getLock(itemId);
+		lock.lock();
+		try {
+			IntervalTree tree = trees.computeIfAbsent(itemId, id -> new IntervalTree());
+			tree.removeEndedBy(LocalDateTime.now());
+			tree.insert(toInterval(booking));
+			versions.merge(itemId, 1L, Long::sum);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void remove(Booking booking) {
+		Long itemId = booking.getItem().getId();
+		Lock lock = getLock(itemId);
+		lock.lock();
+		try {
+			IntervalTree tree = trees.get(itemId);
+			if (tree != null) {
+				if (tree.remove(toInterval(booking))) versions.merge(itemId, 1L, Long::sum);
+				if (tree.size() == 0) trees.remove(itemId);
+			}
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private static Interval toInterval(Booking booking) {
+		return new Interval(booking.getId(), booking.getStart(), booking.getEnd());
+	}
+}
@@ -0,0 +1,22 @@
+package ru.practicum.shareit.booking.interval;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class Interval implements Comparable<Interval> {
+	private final Long bookingId;
+	private final LocalDateTime start;
+	private final LocalDateTime end;
+
+	public boolean overlaps(LocalDateTime otherStart, LocalDateTime otherEnd) {
+		return start.isBefore(otherEnd) && end.isAfter(otherStart);
+	}
+
+	@Override
+	public int compareTo(Interval other) {
+		int compare = start.compareTo(other.start);
+		return compare != 0 ? compare : bookingId.compareTo(other.bookingId);
+	}
+}
@@ -0,0 +1,159 @@
+package ru.practicum.shareit.booking.interval;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class IntervalTree {
+	private Node root;
+	private int size;
+
+	public int size() {
+		return size;
+	}
+
+	public void insert(Interval interval) {
+		root = insert(root, interval);
+	}
+
+	public boolean remove(Interval interval) {
+		int oldSize = size;
+		root = remove(root, interval);
+		return size < oldSize;
+	}
+
+	public int removeEndedBy(LocalDateTime time) {
+		List<Interval> ended = new ArrayList<>();
+		collectEnded(root, time, ended);
+		ended.forEach(this::remove);
+		return ended.size();
+	}
+
+	public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+		Node node = root;
+		while (node != null) {
+			if (node.interval.overlaps(start, end)) return true;
+			if (node.left != null && node.left.maxEnd.isAfter(start)) {
+				node = node.left;
+			} else {
+				node = node.right;
+			}
+		}
+		return false;
+	}
+
+	public List<Interval> overlapping(LocalDateTime start, LocalDateTime end) {
+		List<Interval> result = new ArrayList<>();
+		collect(root, start, end, result);
+		return result;
+	}
+
+	private static void collect(Node node, LocalDateTime start, LocalDateTime end, List<Interval> result) {
+		if (node == null || !node.maxEnd.isAfter(start)) return;
+		collect(node.left, start, end, result);
+		if (!node.interval.getStart().isBefore(end)) return;
+		if (node.interval.overlaps(start, end)) result.add(node.interval);
+		collect(node.right, start, end, result);
+	}
+
+	private static void collectEnded(Node node, LocalDateTime time, List<Interval> result) {
+		if (node == null) return;
+		collectEnded(node.left, time, result);
+		if (node.interval.getStart().isAfter(time)) return;
+		if (!node.interval.getEnd().isAfter(time)) result.add(node.interval);
+		collectEnded(node.right, time, result);
+	}
+
+	private Node insert(Node node, Interval interval) {
+		if (node == null) {
+			size++;
+			return new Node(interval);
+		}
+		int compare = interval.compareTo(node.interval);
+		if (compare < 0) {
+			node.left = insert(node.left, interval);
+		} else if (compare > 0) {
+			node.right = insert(node.right, interval);
+		} else {
+			node.interval = interval;
+		}
+		return balance(node);
+	}
+
+	private Node remove(Node node, Interval interval) {
+		if (node == null) return null;
+		int compare = interval.compareTo(node.interval);
+		if (compare < 0) {
+			node.left = remove(node.left, interval);
+		} else if (compare > 0) {
+			node.right = remove(node.right, interval);
+		} else {
+			size--;
+			if (node.left == null) return node.right;
+			if (node.right == null) return node.left;
+			Node successor = node.right;
+			while (successor.left != null) successor = successor.left;
+			node.interval = successor.interval;
+			size++;
+			node.right = remove(node.right, successor.interval);
+		}
+		return balance(node);
+	}
+
+	private static Node balance(Node node) {
+		update(node);
+		int factor = height(node.left) - height(node.right);
+		if (factor > 1) {
+			if (height(node.left.left) < height(node.left.right)) node.left = rotateLeft(node.left);
+			return rotateRight(node);
+		}
+		if (factor < -1) {
+			if (height(node.right.right) < height(node.right.left)) node.right = rotateRight(node.right);
+			return rotateLeft(node);
+		}
+		return node;
+	}
+
+	private static Node rotateRight(Node node) {
+		Node left = node.left;
+		node.left = left.right;
+		left.right = node;
+		update(node);
+		update(left);
+		return left;
+	}
+
+	private static Node rotateLeft(Node node) {
+		Node right = node.right;
+		node.right = right.left;
+		right.left = node;
+		update(node);
+		update(right);
+		return right;
+	}
+
+	private static void update(Node node) {
+		node.height = Math.max(height(node.left), height(node.right)) + 1;
+		node.maxEnd = node.interval.getEnd();
+		if (node.left != null && node.left.maxEnd.isAfter(node.maxEnd)) node.maxEnd = node.left.maxEnd;
+		if (node.right != null && node.right.maxEnd.isAfter(node.maxEnd)) node.maxEnd = node.right.maxEnd;
+	}
+
+	private static int height(Node node) {
+		return node == null ? 0 : node.height;
+	}
+
+	private static class Node {
+		private Interval interval;
+		private LocalDateTime maxEnd;
+		private int height;
+		private Node left;
+		private Node right;
+
+		private Node(Interval interval) {
+			this.interval = interval;
+			this.maxEnd = interval.getEnd();
+			this.height = 1;
+		}
+	}
+}
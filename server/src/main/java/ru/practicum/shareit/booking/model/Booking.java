@@ -16,7 +16,8 @@ import java.time.LocalDateTime;
 @Table(name = "bookings")
 public class Booking {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "booking_seq")
+	@SequenceGenerator(name = "booking_seq", sequenceName = "booking_seq", allocationSize = 50)
 	@Column(name = "booking_id")
 	private Long id;
 	@Column(name = "start_time")
@@ -32,4 +33,11 @@ public class Booking {
 	@Column(name = "status")
 	@Enumerated(EnumType.STRING)
 	private Status status;
+	@Column(name = "owner_id")
+	private Long ownerId;
+
+	public Booking(Long id, LocalDateTime start, LocalDateTime end, Item item, User booker, Status status) {
+		this(id, start, end, item, booker, status,
+				item == null || item.getOwner() == null ? null : item.getOwner().getId());
+	}
 }
@@ -1,42 +1,49 @@
 package ru.practicum.shareit.booking.repisitory;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-	Optional<Booking> findByIdAndItemOwnerId(Long bookingId, Long userId);
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingRepositoryCustom {
+	@Override
+	@EntityGraph(attributePaths = {"item", "booker"})
+	Optional<Booking> findById(Long id);
 
-	List<Booking> findByBookerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime now, Pageable pageRequest);
+	@EntityGraph(attributePaths = {"item", "booker"})
+	Optional<Booking> findByIdAndOwnerId(Long bookingId, Long userId);
 
-	List<Booking> findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long userId, LocalDateTime now,
-	                                                                      LocalDateTime now1, Pageable pageRequest);
+	@EntityGraph(attributePaths = {"item", "booker"})
+	List<Booking> findByIdInAndOwnerId(Collection<Long> bookingIds, Long userId);
 
-	List<Booking> findByBookerIdAndEndBeforeOrderByStartDesc(Long userId, LocalDateTime now, Pageable pageRequest);
-
-	List<Booking> findByBookerIdAndStatusOrderByStartDesc(Long userId, Status waiting, Pageable pageRequest);
-
-	List<Booking> findByBookerIdOrderByStartDesc(Long userId, Pageable pageRequest);
-
-	List<Booking> findByItemOwnerIdAndStartAfterOrderByStartDesc(Long userId, LocalDateTime now, Pageable pageRequest);
-
-	List<Booking> findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long userId, LocalDateTime now,
-	                                                                         LocalDateTime now1, Pageable pageRequest);
-
-	List<Booking> findByItemOwnerIdAndEndBeforeOrderByStartDesc(Long userId, LocalDateTime now, Pageable pageRequest);
-
-	List<Booking> findByItemOwnerIdOrderByStartDesc(Long userId, Pageable pageRequest);
-
-	List<Booking> findByItemOwnerIdAndStatusOrderByStartDesc(Long userId, Status waiting, Pageable pageRequest);
+	@Modifying(flushAutomatically = true, clearAutomatically = true)
+	@Query("update Booking as b set b.status = ?3 where b.id in ?1 and b.ownerId = ?2 " +
+			"and b.status = ru.practicum.shareit.booking.model.Status.WAITING")
+	int updateWaitingStatus(Collection<Long> bookingIds, Long userId, Status status);
 
 	Booking findFirstByItemIdAndStatusNotAndStartAfterOrderByStartAsc(Long id, Status rejected, LocalDateTime now);
 
 	Booking findFirstByItemIdAndStatusNotAndStartBeforeOrderByStartDesc(Long id, Status rejected, LocalDateTime now);
 
+	@Query(value = "select bk.booking_id, bk.start_time, bk.end_time, bk.item_id, bk.booker_id, bk.status, bk.owner_id " +
+			"from (select b.*, row_number() over (" +
+			"partition by b.item_id, case when b.start_time < ?2 then 0 else 1 end " +
+			"order by case when b.start_time < ?2 then b.start_time end desc, " +
+			"case when b.start_time >= ?2 then b.start_time end asc) as rn " +
+			"from bookings as b where b.item_id in (?1) and b.status <> 'REJECTED') as bk " +
+			"where bk.rn = 1", nativeQuery = true)
+	List<Booking> findLastAndNextByItemIdIn(Collection<Long> itemIds, LocalDateTime now);
+
+	Slice<Booking> findByEndAfterAndStatusIn(LocalDateTime now, Collection<Status> statuses, Pageable pageRequest);
+
 	List<Booking> findAllByBookerIdAndItemIdAndEndBefore(Long userId, Long itemId, LocalDateTime now);
 }
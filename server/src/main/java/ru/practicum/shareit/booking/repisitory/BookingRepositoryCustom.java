@@ -0,0 +1,19 @@
+package ru.practicum.shareit.booking.repisitory;
+
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.BookingState;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingRepositoryCustom {
+	List<BookingView> findBookerBookings(Long bookerId, BookingState state, LocalDateTime now, int from, int size);
+
+	List<BookingView> findOwnerBookings(Long ownerId, BookingState state, LocalDateTime now, int from, int size);
+
+	List<BookingView> findBookerBookingsAfter(Long bookerId, BookingState state, LocalDateTime now,
+	                                          LocalDateTime afterStart, Long afterId, int size);
+
+	List<BookingView> findOwnerBookingsAfter(Long ownerId, BookingState state, LocalDateTime now,
+	                                         LocalDateTime afterStart, Long afterId, int size);
+}
@@ -0,0 +1,95 @@
+package ru.practicum.shareit.booking.repisitory;
+
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.criteria.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+public class BookingRepositoryImpl implements BookingRepositoryCustom {
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<BookingView> findBookerBookings(Long bookerId, BookingState state, LocalDateTime now,
+	                                            int from, int size) {
+		return findBookings(bookerId, false, state, now, null, null, from, size);
+	}
+
+	@Override
+	public List<BookingView> findOwnerBookings(Long ownerId, BookingState state, LocalDateTime now,
+	                                           int from, int size) {
+		return findBookings(ownerId, true, state, now, null, null, from, size);
+	}
+
+	@Override
+	public List<BookingView> findBookerBookingsAfter(Long bookerId, BookingState state, LocalDateTime now,
+	                                                 LocalDateTime afterStart, Long afterId, int size) {
+		return findBookings(bookerId, false, state, now, afterStart, afterId, 0, size);
+	}
+
+	@Override
+	public List<BookingView> findOwnerBookingsAfter(Long ownerId, BookingState state, LocalDateTime now,
+	                                                LocalDateTime afterStart, Long afterId, int size) {
+		return findBookings(ownerId, true, state, now, afterStart, afterId, 0, size);
+	}
+
+	private List<BookingView> findBookings(Long userId, boolean owner, BookingState state, LocalDateTime now,
+	                                       LocalDateTime afterStart, Long afterId, int firstResult, int maxResults) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<BookingView> query = builder.createQuery(BookingView.class);
+		Root<Booking> booking = query.from(Booking.class);
+		Join<Booking, Item> item = booking.join("item", JoinType.INNER);
+		Join<Booking, User> booker = booking.join("booker", JoinType.INNER);
+		List<Predicate> predicates = new ArrayList<>();
+		if (owner) {
+			predicates.add(builder.equal(booking.get("ownerId"), userId));
+		} else {
+			predicates.add(builder.equal(booker.get("id"), userId));
+		}
+		switch (state) {
+			case FUTURE:
+				predicates.add(builder.greaterThan(booking.get("start"), now));
+				break;
+			case CURRENT:
+				predicates.add(builder.lessThan(booking.get("start"), now));
+				predicates.add(builder.greaterThan(booking.get("end"), now));
+				break;
+			case PAST:
+				predicates.add(builder.lessThan(booking.get("end"), now));
+				break;
+			case WAITING:
+				predicates.add(builder.equal(booking.get("status"), Status.WAITING));
+				break;
+			case REJECTED:
+				predicates.add(builder.equal(booking.get("status"), Status.REJECTED));
+				break;
+			default:
+				break;
+		}
+		if (afterStart != null) {
+			predicates.add(builder.or(
+					builder.lessThan(booking.get("start"), afterStart),
+					builder.and(builder.equal(booking.get("start"), afterStart),
+							builder.lessThan(booking.get("id"), afterId))));
+		}
+		query.select(builder.construct(BookingView.class,
+						booking.get("id"), booking.get("start"), booking.get("end"), booking.get("status"),
+						item.get("id"), item.get("name"), item.get("description"), item.get("available"),
+						item.get("requestId"), booker.get("id"), booker.get("name"), booker.get("email")))
+				.where(predicates.toArray(new Predicate[0]))
+				.orderBy(builder.desc(booking.get("start")), builder.desc(booking.get("id")));
+		return entityManager.createQuery(query)
+				.setFirstResult(firstResult)
+				.setMaxResults(maxResults)
+				.getResultList();
+	}
+}
@@ -1,18 +1,23 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoFull;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 
 import java.util.Collection;
+import java.util.List;
 
 public interface BookingService {
 	BookingDtoFull create(Long userId, BookingDto bookingDto);
 
 	BookingDtoFull updateBookingStatus(Long userId, Long bookingId, Boolean approved);
 
+	List<BookingBatchResultDto> updateBookingStatuses(Long userId, List<BookingStatusUpdateDto> updates);
+
 	BookingDtoFull getBookingInformation(Long userId, Long bookingId);
 
-	Collection<BookingDtoFull> getBooking(Long userId, String status, Integer from, Integer size);
+	Collection<BookingDtoFull> getBooking(Long userId, String status, Integer from, Integer size, String cursor);
 
-	Collection<BookingDtoFull> getYourBooking(Long userId, String state, Integer from, Integer size);
+	Collection<BookingDtoFull> getYourBooking(Long userId, String state, Integer from, Integer size, String cursor);
 }
@@ -2,12 +2,16 @@ package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoFull;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.interval.BookingIntervalIndex;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.Status;
@@ -15,14 +19,26 @@ import ru.practicum.shareit.booking.repisitory.BookingRepository;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.transaction.TransactionCallbacks;
+import ru.practicum.shareit.user.UserCache;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.Lock;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import static ru.practicum.shareit.booking.model.BookingState.valueOf;
@@ -30,18 +46,24 @@ import static ru.practicum.shareit.booking.model.BookingState.valueOf;
 @Service
 @RequiredArgsConstructor
 @Slf4j
+@Transactional(readOnly = true)
 public class BookingServiceImpl implements BookingService {
+	private static final String BOOKING_STATUS_CONFLICT_MESSAGE =
+			"Статус бронирования уже изменён другим запросом";
+
 	private final BookingRepository bookingRepository;
-	private final UserRepository userRepository;
+	private final UserCache userCache;
 	private final ItemRepository itemRepository;
+	private final BookingIntervalIndex bookingIntervalIndex;
 
 	@Override
+	@Transactional
 	public BookingDtoFull create(Long userId, BookingDto bookingDto) {
 		if (bookingDto.getEnd() == null || bookingDto.getStart() == null) {
 			throw new BookingTimeException("Время начала и окончания бронирования не должны быть пустыми");
 		}
 		bookingDto.setBookerId(userId);
-		Optional<User> userOptional = userRepository.findById(userId);
+		Optional<User> userOptional = userCache.find(userId);
 		if (userOptional.isEmpty()) throw new UserNotFoundException("Пользователь с id="
 				+ userId + " не найден");
 		User user = userOptional.get();
@@ -60,30 +82,110 @@ public class BookingServiceImpl implements BookingService {
 		}
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
 		booking.setStatus(Status.WAITING);
-		bookingRepository.save(booking);
+		Lock lock = bookingIntervalIndex.getLock(item.getId());
+		lock.lock();
+		try {
+			if (bookingIntervalIndex.hasOverlap(item.getId(), booking.getStart(), booking.getEnd())) {
+				throw new BookingOverlapException("Вещь с id=" + item.getId() + " уже забронирована на это время");
+			}
+			bookingRepository.save(booking);
+			bookingIntervalIndex.add(booking);
+			removeFromIndexOnRollback(booking);
+		} finally {
+			lock.unlock();
+		}
 		return BookingMapper.toBookingDtoFull(booking);
 	}
 
 	@Override
+	@Transactional
 	public BookingDtoFull updateBookingStatus(Long userId, Long bookingId, Boolean approved) {
-		Optional<Booking> bookingOptional = bookingRepository.findByIdAndItemOwnerId(bookingId, userId);
+		Optional<Booking> bookingOptional = bookingRepository.findByIdAndOwnerId(bookingId, userId);
 		if (bookingOptional.isEmpty())
 			throw new BookingNotFoundException("Бронирование с id=" + bookingId + " не найдено");
 		Booking booking = bookingOptional.get();
 		if (!booking.getStatus().equals(Status.WAITING))
 			throw new BookingStatusException("Статус бронирования не является 'WAITING'");
-		if (approved) {
-			booking.setStatus(Status.APPROVED);
-		} else {
-			booking.setStatus(Status.REJECTED);
+		Status target = approved ? Status.APPROVED : Status.REJECTED;
+		if (bookingRepository.updateWaitingStatus(List.of(bookingId), userId, target) == 0)
+			throw new BookingStatusConflictException(BOOKING_STATUS_CONFLICT_MESSAGE);
+		booking.setStatus(target);
+		if (!approved) {
+			removeFromIndexAfterCommit(booking);
 		}
-		bookingRepository.save(booking);
 		return BookingMapper.toBookingDtoFull(booking);
 	}
 
+	@Override
+	@Transactional
+	public List<BookingBatchResultDto> updateBookingStatuses(Long userId, List<BookingStatusUpdateDto> updates) {
+		Set<Long> ids = updates.stream()
+				.filter(Objects::nonNull)
+				.map(BookingStatusUpdateDto::getBookingId)
+				.filter(Objects::nonNull)
+				.collect(Collectors.toSet());
+		Map<Long, Booking> bookings = ids.isEmpty() ? Map.of() : bookingRepository.findByIdInAndOwnerId(ids, userId)
+				.stream()
+				.collect(Collectors.toMap(Booking::getId, Function.identity()));
+		BookingBatchResultDto[] results = new BookingBatchResultDto[updates.size()];
+		Map<Status, List<Long>> targets = new EnumMap<>(Status.class);
+		Map<Long, Status> intended = new HashMap<>();
+		Set<Long> seen = new HashSet<>();
+		for (int i = 0; i < updates.size(); i++) {
+			BookingStatusUpdateDto update = updates.get(i);
+			Long bookingId = update != null ? update.getBookingId() : null;
+			if (bookingId == null || update.getApproved() == null) {
+				results[i] = failed(bookingId, HttpStatus.BAD_REQUEST,
+						"Должны быть указаны id бронирования и решение по нему");
+			} else if (!seen.add(bookingId)) {
+				results[i] = failed(bookingId, HttpStatus.BAD_REQUEST,
+						"Бронирование с id=" + bookingId + " указано повторно");
+			} else if (!bookings.containsKey(bookingId)) {
+				results[i] = failed(bookingId, HttpStatus.NOT_FOUND,
+						"Бронирование с id=" + bookingId + " не найдено");
+			} else if (!bookings.get(bookingId).getStatus().equals(Status.WAITING)) {
+				results[i] = failed(bookingId, HttpStatus.BAD_REQUEST, "Статус бронирования не является 'WAITING'");
+			} else {
+				Status target = update.getApproved() ? Status.APPROVED : Status.REJECTED;
+				targets.computeIfAbsent(target, status -> new ArrayList<>()).add(bookingId);
+				intended.put(bookingId, target);
+			}
+		}
+		int expected = 0;
+		int updated = 0;
+		for (Map.Entry<Status, List<Long>> target : targets.entrySet()) {
+			expected += target.getValue().size();
+			updated += bookingRepository.updateWaitingStatus(target.getValue(), userId, target.getKey());
+		}
+		Set<Long> lost = new HashSet<>();
+		if (updated < expected) {
+			for (Booking current : bookingRepository.findAllById(
+					targets.values().stream().flatMap(List::stream).collect(Collectors.toList()))) {
+				if (current.getStatus() != intended.get(current.getId())) lost.add(current.getId());
+			}
+		}
+		for (int i = 0; i < results.length; i++) {
+			if (results[i] != null) continue;
+			Long bookingId = updates.get(i).getBookingId();
+			if (lost.contains(bookingId)) {
+				results[i] = failed(bookingId, HttpStatus.CONFLICT, BOOKING_STATUS_CONFLICT_MESSAGE);
+				continue;
+			}
+			Booking booking = bookings.get(bookingId);
+			booking.setStatus(intended.get(bookingId));
+			if (booking.getStatus() == Status.REJECTED) {
+				removeFromIndexAfterCommit(booking);
+			}
+			results[i] = new BookingBatchResultDto(bookingId, HttpStatus.OK.value(),
+					BookingMapper.toBookingDtoFull(booking), null);
+		}
+		log.info("Пользователь с id={} изменил статус {} бронирований из {}", userId, updated, updates.size());
+		return Arrays.asList(results);
+	}
+
 	@Override
 	public BookingDtoFull getBookingInformation(Long userId, Long bookingId) {
-		Optional<User> userOptional = userRepository.findById(userId);
+		Optional<User> userOptional = userCache.find(userId);
 		if (userOptional.isEmpty()) throw new UserNotFoundException("Пользователь с id="
 				+ userId + " не найден");
 		Optional<Booking> bookingOptional = bookingRepository.findById(bookingId);
@@ -91,7 +193,7 @@ public class BookingServiceImpl implements BookingService {
 			throw new BookingNotFoundException("Бронирование с id=" + bookingId + " не найдено");
 		}
 		Booking booking = bookingOptional.get();
-		if (!Objects.equals(booking.getItem().getOwner().getId(), userId)
+		if (!Objects.equals(booking.getOwnerId(), userId)
 				&& !Objects.equals(booking.getBooker().getId(), userId))
 			throw new BookingNotFoundException(
 					"У пользователя с id=" + userId + " не обнаружено бронирований с id=" + bookingId
@@ -100,11 +202,10 @@ public class BookingServiceImpl implements BookingService {
 	}
 
 	@Override
-	public Collection<BookingDtoFull> getBooking(Long userId, String state, Integer from, Integer size) {
+	public Collection<BookingDtoFull> getBooking(Long userId, String state, Integer from, Integer size,
+	                                             String cursor) {
 		checkingParametersSizeAndFrom(from, size);
-		int page = from / size;
-		Pageable pageRequest = PageRequest.of(page, size);
-		Optional<User> userOptional = userRepository.findById(userId);
+		Optional<User> userOptional = userCache.find(userId);
 		if (userOptional.isEmpty()) throw new UserNotFoundException("Пользователь с id="
 				+ userId + " не найден");
 		BookingState bookingState;
@@ -113,76 +214,65 @@ public class BookingServiceImpl implements BookingService {
 		} catch (IllegalArgumentException e) {
 			throw new BookingStateException("Unknown state: " + state);
 		}
-		List<Booking> bookings;
-		switch (bookingState) {
-			case FUTURE:
-				bookings = bookingRepository.findByBookerIdAndStartAfterOrderByStartDesc(userId, LocalDateTime.now(),
-						pageRequest);
-				break;
-			case CURRENT:
-				LocalDateTime now = LocalDateTime.now();
-				bookings = bookingRepository.findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(userId, now, now,
-						pageRequest);
-				break;
-			case WAITING:
-				bookings = bookingRepository.findByBookerIdAndStatusOrderByStartDesc(userId, Status.WAITING,
-						pageRequest);
-				break;
-			case PAST:
-				bookings = bookingRepository.findByBookerIdAndEndBeforeOrderByStartDesc(userId, LocalDateTime.now(),
-						pageRequest);
-				break;
-			case REJECTED:
-				bookings = bookingRepository.findByBookerIdAndStatusOrderByStartDesc(userId, Status.REJECTED,
-						pageRequest);
-				break;
-			default:
-				bookings = bookingRepository.findByBookerIdOrderByStartDesc(userId, pageRequest);
+		List<BookingView> bookings;
+		if (cursor == null) {
+			bookings = bookingRepository.findBookerBookings(userId, bookingState, LocalDateTime.now(), from, size);
+		} else {
+			String[] position = PageCursor.decode(cursor, 2);
+			bookings = bookingRepository.findBookerBookingsAfter(userId, bookingState, LocalDateTime.now(),
+					parseCursorStart(cursor, position[0]), parseCursorId(cursor, position[1]), size);
 		}
 		return bookings.stream().map(BookingMapper::toBookingDtoFull).collect(Collectors.toList());
 	}
 
 	@Override
-	public Collection<BookingDtoFull> getYourBooking(Long userId, String state, Integer from, Integer size) {
+	public Collection<BookingDtoFull> getYourBooking(Long userId, String state, Integer from, Integer size,
+	                                                 String cursor) {
 		checkingParametersSizeAndFrom(from, size);
-		int page = from / size;
-		Pageable pageRequest = PageRequest.of(page, size);
 		BookingState bookingState;
 		try {
 			bookingState = valueOf(state);
 		} catch (IllegalArgumentException e) {
 			throw new BookingStateException("Unknown state: " + state);
 		}
-		List<Booking> bookings;
-		switch (bookingState) {
-			case FUTURE:
-				bookings = bookingRepository.findByItemOwnerIdAndStartAfterOrderByStartDesc(userId, LocalDateTime.now(),
-						pageRequest);
-				break;
-			case CURRENT:
-				LocalDateTime now = LocalDateTime.now();
-				bookings = bookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(userId, now, now,
-						pageRequest);
-				break;
-			case PAST:
-				bookings = bookingRepository.findByItemOwnerIdAndEndBeforeOrderByStartDesc(userId, LocalDateTime.now(),
-						pageRequest);
-				break;
-			case WAITING:
-				bookings = bookingRepository.findByItemOwnerIdAndStatusOrderByStartDesc(userId, Status.WAITING,
-						pageRequest);
-				break;
-			case REJECTED:
-				bookings = bookingRepository.findByItemOwnerIdAndStatusOrderByStartDesc(userId, Status.REJECTED,
-						pageRequest);
-				break;
-			default:
-				bookings = bookingRepository.findByItemOwnerIdOrderByStartDesc(userId, pageRequest);
-		}
-		if (bookings.size() == 0) {
-			throw new RuntimeException("Бронирований нет");
+		if (cursor != null) {
+			String[] position = PageCursor.decode(cursor, 2);
+			return bookingRepository.findOwnerBookingsAfter(userId, bookingState, LocalDateTime.now(),
+							parseCursorStart(cursor, position[0]), parseCursorId(cursor, position[1]), size).stream()
+					.map(BookingMapper::toBookingDtoFull)
+					.collect(Collectors.toList());
+		}
+		return bookingRepository.findOwnerBookings(userId, bookingState, LocalDateTime.now(), from, size).stream()
+				.map(BookingMapper::toBookingDtoFull)
+				.collect(Collectors.toList());
+	}
+
+	private static BookingBatchResultDto failed(Long bookingId, HttpStatus status, String error) {
+		return new BookingBatchResultDto(bookingId, status.value(), null, error);
+	}
+
+	private void removeFromIndexOnRollback(Booking booking) {
+		TransactionCallbacks.afterRollback(() -> bookingIntervalIndex.remove(booking));
+	}
+
+	private void removeFromIndexAfterCommit(Booking booking) {
+		TransactionCallbacks.afterCommit(() -> bookingIntervalIndex.remove(booking));
+	}
+
+	private static LocalDateTime parseCursorStart(String cursor, String value) {
+		try {
+			return LocalDateTime.parse(value);
+		} catch (DateTimeParseException e) {
+			throw new CursorNotValidException("Некорректное значение cursor: " + cursor);
+		}
+	}
+
+	private static Long parseCursorId(String cursor, String value) {
+		try {
+			return Long.valueOf(value);
+		} catch (NumberFormatException e) {
+			throw new CursorNotValidException("Некорректное значение cursor: " + cursor);
 		}
-		return bookings.stream().map(BookingMapper::toBookingDtoFull).collect(Collectors.toList());
 	}
 
 	public void checkingParametersSizeAndFrom(Integer from, Integer size) {
@@ -21,7 +21,7 @@ public class ErrorHandler {
     @ExceptionHandler({ValidationException.class, ItemUnavailableException.class,
             BookingTimeException.class, BookingStateException.class, BookingStatusException.class,
             IllegalArgumentException.class, CommentaryEmptyException.class, ItemRequestExistsException.class,
-            ItemNotValidException.class})
+            ItemNotValidException.class, CursorNotValidException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleBadRequest(RuntimeException e) {
         return new ErrorResponse(e.getMessage());
@@ -34,7 +34,8 @@ public class ErrorHandler {
         return new ErrorResponse(e.getMessage());
     }
 
-    @ExceptionHandler({UserAlreadyExistsException.class})
+    @ExceptionHandler({UserAlreadyExistsException.class, BookingOverlapException.class,
+            BookingStatusConflictException.class})
     @ResponseStatus(HttpStatus.CONFLICT)
     public ErrorResponse handleAlreadyExistsException(RuntimeException e) {
         return new ErrorResponse(e.getMessage());
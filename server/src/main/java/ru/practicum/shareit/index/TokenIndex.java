@@ -0,0 +1,70 @@
+package ru.practicum.shareit.index;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+public class TokenIndex<D> {
+	public static final int BUILD_CHUNK_SIZE = 1000;
+
+	private final Function<D, Set<String>> tokenizer;
+	private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+	private final Map<Long, D> documents = new ConcurrentHashMap<>();
+
+	public TokenIndex(Function<D, Set<String>> tokenizer) {
+		this.tokenizer = tokenizer;
+	}
+
+	public static <T> void load(Function<Pageable, ? extends Slice<T>> pages, Consumer<T> consumer) {
+		int page = 0;
+		Slice<T> chunk;
+		do {
+			chunk = pages.apply(PageRequest.of(page++, BUILD_CHUNK_SIZE, Sort.by("id")));
+			chunk.forEach(consumer);
+		} while (chunk.hasNext());
+	}
+
+	public synchronized void put(Long id, D document) {
+		remove(id);
+		documents.put(id, document);
+		for (String token : tokenizer.apply(document)) {
+			postings.computeIfAbsent(token, key -> ConcurrentHashMap.newKeySet()).add(id);
+		}
+	}
+
+	public synchronized void remove(Long id) {
+		D document = documents.remove(id);
+		if (document == null) return;
+		for (String token : tokenizer.apply(document)) {
+			Set<Long> ids = postings.get(token);
+			if (ids != null) {
+				ids.remove(id);
+				if (ids.isEmpty()) postings.remove(token);
+			}
+		}
+	}
+
+	public Set<Long> find(String token) {
+		return postings.getOrDefault(token, Collections.emptySet());
+	}
+
+	public D get(Long id) {
+		return documents.get(id);
+	}
+
+	public boolean contains(Long id) {
+		return documents.containsKey(id);
+	}
+
+	public int size() {
+		return documents.size();
+	}
+}
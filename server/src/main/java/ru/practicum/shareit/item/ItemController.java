@@ -1,12 +1,22 @@
 package ru.practicum.shareit.item;
 
 import lombok.AllArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.ItemBatchResultDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.PageCursor;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 @RestController
 @RequestMapping("/items")
@@ -19,6 +29,12 @@ public class ItemController {
 		return service.create(userId, itemDto);
 	}
 
+	@PostMapping("/batch")
+	public List<ItemBatchResultDto> createBatch(@RequestHeader("X-Sharer-User-Id") Long userId,
+	                                            @RequestBody List<ItemDto> itemDtos) {
+		return service.createBatch(userId, itemDtos);
+	}
+
 	@PatchMapping("/{itemId}")
 	public ItemDto update(@RequestHeader("X-Sharer-User-Id") Long userId, @PathVariable Long itemId,
 	                      @RequestBody ItemDto itemDto) {
@@ -38,11 +54,32 @@ public class ItemController {
 	}
 
 	@GetMapping("/search")
-	public Collection<ItemDto> getItemsByNameOrDescription(@RequestHeader("X-Sharer-User-Id") Long userId,
-	                                                       @RequestParam String text,
-	                                                       @RequestParam(defaultValue = "0") Integer from,
-	                                                       @RequestParam(defaultValue = "10")  Integer size) {
-		return service.getItemsByNameOrDescription(userId, text, from, size);
+	public ResponseEntity<List<ItemDto>> getItemsByNameOrDescription(@RequestHeader("X-Sharer-User-Id") Long userId,
+	                                                                 @RequestParam String text,
+	                                                                 @RequestParam(defaultValue = "0") Integer from,
+	                                                                 @RequestParam(defaultValue = "10")  Integer size,
+	                                                                 @RequestParam(required = false) String cursor) {
+		List<ItemDto> items = new ArrayList<>(service.getItemsByNameOrDescription(userId, text, from, size, cursor));
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (items.size() == size) {
+			response.header(PageCursor.NEXT_CURSOR_HEADER, PageCursor.encode(items.get(items.size() - 1).getId()));
+		}
+		return response.body(items);
+	}
+
+	@GetMapping("/{itemId}/availability")
+	public ResponseEntity<ItemAvailabilityDto> getAvailability(@RequestHeader("X-Sharer-User-Id") Long userId,
+	                                                           @PathVariable Long itemId,
+	                                                           @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME)
+	                                                           LocalDateTime from,
+	                                                           @RequestParam @DateTimeFormat(iso = ISO.DATE_TIME)
+	                                                           LocalDateTime to,
+	                                                           WebRequest request) {
+		ItemAvailabilityDto availability = service.getAvailability(userId, itemId, from, to);
+		if (request.checkNotModified(availability.getVersion())) {
+			return null;
+		}
+		return ResponseEntity.ok().eTag(availability.getVersion()).body(availability);
 	}
 
 	@PostMapping("/{itemId}/comment")
@@ -0,0 +1,19 @@
+package ru.practicum.shareit.item.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ItemAvailabilityDto {
+	private Long itemId;
+	private LocalDateTime from;
+	private LocalDateTime to;
+	private List<TimeSlotDto> freeSlots;
+	@JsonIgnore
+	private String version;
+}
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class Comment {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+	@SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 50)
 	@Column(name = "comment_id")
 	private Long id;
 	@Column(length = 1000)
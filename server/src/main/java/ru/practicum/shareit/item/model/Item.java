@@ -14,7 +14,8 @@ import javax.persistence.*;
 @Table(name = "items")
 public class Item {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_seq")
+	@SequenceGenerator(name = "item_seq", sequenceName = "item_seq", allocationSize = 50)
 	@Column(name = "item_id")
 	private Long id;
 	@Column(length = 127)
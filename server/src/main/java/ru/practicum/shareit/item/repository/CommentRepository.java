@@ -1,11 +1,18 @@
 package ru.practicum.shareit.item.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Comment;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
-
+	@EntityGraph(attributePaths = "author")
 	List<Comment> findByItemIdOrderByCreatedDesc(Long itemId);
+
+	@Query("select c from Comment as c join fetch c.item join fetch c.author " +
+			"where c.item.id in ?1 order by c.created desc")
+	List<Comment> findByItemIdInOrderByCreatedDesc(Collection<Long> itemIds);
 }
@@ -1,21 +1,39 @@
 package ru.practicum.shareit.item.repository;
 
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import ru.practicum.shareit.item.model.Item;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
+	@Override
+	@EntityGraph(attributePaths = "owner")
+	Optional<Item> findById(Long id);
+
 	List<Item> findByOwnerId(Long userId, Pageable pageRequest);
 
 	@Query("select it from Item as it where (lower(it.name)) like lower(concat('%', ?1,'%')) " +
 			"or (lower(it.description)) like lower(concat('%', ?1,'%')) and it.available = TRUE")
 	Collection<Item> getItemsByNameOrDescription(String text);
 
+	@Query("select it from Item as it where it.available = TRUE " +
+			"and (lower(it.name) like lower(concat('%', ?1,'%')) or lower(it.description) like lower(concat('%', ?1,'%'))) " +
+			"order by it.id")
+	List<Item> searchAvailable(String text, Pageable pageRequest);
+
+	@Query("select it from Item as it where it.id > ?2 and it.available = TRUE " +
+			"and (lower(it.name) like lower(concat('%', ?1,'%')) or lower(it.description) like lower(concat('%', ?1,'%'))) " +
+			"order by it.id")
+	List<Item> searchAvailableAfter(String text, Long afterId, Pageable pageRequest);
+
 	Collection<Item> findByRequestId(Long id);
 
+	List<Item> findByRequestIdIn(Collection<Long> requestIds);
+
 	List<Item> findByOwnerIdOrderById(Long userId, Pageable pageRequest);
 }
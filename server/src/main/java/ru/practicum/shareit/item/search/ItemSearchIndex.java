@@ -0,0 +1,116 @@
+package ru.practicum.shareit.item.search;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.index.TokenIndex;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.transaction.TransactionCallbacks;
+
+import java.util.*;
+
+@Component
+@Slf4j
+public class ItemSearchIndex {
+	public static final int GRAM_LENGTH = 3;
+
+	private final ItemRepository itemRepository;
+	private final boolean enabled;
+	private final TokenIndex<IndexedItem> index = new TokenIndex<>(ItemSearchIndex::grams);
+	private volatile boolean ready;
+
+	public ItemSearchIndex(ItemRepository itemRepository,
+	                       @Value("${shareit.search.index.enabled:false}") boolean enabled) {
+		this.itemRepository = itemRepository;
+		this.enabled = enabled;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void build() {
+		if (!enabled) return;
+		TokenIndex.load(itemRepository::findAll, this::apply);
+		ready = true;
+		log.info("Поисковый индекс вещей построен, проиндексировано {} вещей", index.size());
+	}
+
+	public boolean canSearch(String text) {
+		return enabled && ready && text.length() >= GRAM_LENGTH;
+	}
+
+	public void index(Item item) {
+		if (!enabled) return;
+		TransactionCallbacks.afterCommit(() -> apply(item));
+	}
+
+	private void apply(Item item) {
+		if (item.getId() == null) return;
+		if (!Boolean.TRUE.equals(item.getAvailable())) {
+			index.remove(item.getId());
+			return;
+		}
+		index.put(item.getId(), new IndexedItem(lower(item.getName()), lower(item.getDescription())));
+	}
+
+	public List<Long> search(String text) {
+		String needle = lower(text);
+		Set<String> queryGrams = grams(needle);
+		List<Set<Long>> lists = new ArrayList<>();
+		for (String gram : queryGrams) {
+			Set<Long> ids = index.find(gram);
+			if (ids.isEmpty()) return new ArrayList<>();
+			lists.add(ids);
+		}
+		lists.sort(Comparator.comparingInt(Set::size));
+		List<Long> result = new ArrayList<>();
+		for (Long id : lists.get(0)) {
+			if (containsInAll(lists, id)) {
+				IndexedItem document = index.get(id);
+				if (document != null && document.matches(needle)) result.add(id);
+			}
+		}
+		Collections.sort(result);
+		return result;
+	}
+
+	private static boolean containsInAll(List<Set<Long>> lists, Long id) {
+		for (int i = 1; i < lists.size(); i++) {
+			if (!lists.get(i).contains(id)) return false;
+		}
+		return true;
+	}
+
+	private static Set<String> grams(IndexedItem document) {
+		Set<String> grams = grams(document.name);
+		grams.addAll(grams(document.description));
+		return grams;
+	}
+
+	private static Set<String> grams(String text) {
+		Set<String> grams = new HashSet<>();
+		for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+			grams.add(text.substring(i, i + GRAM_LENGTH));
+		}
+		return grams;
+	}
+
+	private static String lower(String text) {
+		return text == null ? "" : text.toLowerCase();
+	}
+
+	private static class IndexedItem {
+		private final String name;
+		private final String description;
+
+		private IndexedItem(String name, String description) {
+			this.name = name;
+			this.description = description;
+		}
+
+		private boolean matches(String needle) {
+			return name.contains(needle) || description.contains(needle);
+		}
+	}
+}
@@ -1,20 +1,28 @@
 package ru.practicum.shareit.item.service;
 
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.ItemBatchResultDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.time.LocalDateTime;
 import java.util.Collection;
+import java.util.List;
 
 public interface ItemService {
 	ItemDto create(Long userId, ItemDto itemDto);
 
+	List<ItemBatchResultDto> createBatch(Long userId, List<ItemDto> itemDtos);
+
 	ItemDto update(Long userId, Long itemId, ItemDto itemDto);
 
 	ItemDto getItemById(Long userId, Long itemId);
 
 	Collection<ItemDto> getItemsUser(Long userId, Integer from, Integer size);
 
-	Collection<ItemDto> getItemsByNameOrDescription(Long userId, String text, Integer from, Integer size);
+	Collection<ItemDto> getItemsByNameOrDescription(Long userId, String text, Integer from, Integer size, String cursor);
+
+	ItemAvailabilityDto getAvailability(Long userId, Long itemId, LocalDateTime from, LocalDateTime to);
 
 	CommentDto createComment(Long userId, Long itemId, CommentDto commentDto);
 }
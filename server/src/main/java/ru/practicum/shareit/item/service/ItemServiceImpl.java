@@ -3,9 +3,13 @@ package ru.practicum.shareit.item.service;
 import lombok.AllArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.BookingMapper;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.interval.BookingIntervalIndex;
+import ru.practicum.shareit.booking.interval.Interval;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repisitory.BookingRepository;
@@ -13,12 +17,20 @@ import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.CommentMapper;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.ItemBatchResultDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.TimeSlotDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.request.match.ItemRequestMatcher;
+import ru.practicum.shareit.request.match.RequestMatchingService;
+import ru.practicum.shareit.user.UserCache;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
@@ -27,18 +39,29 @@ import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
+@Transactional(readOnly = true)
 public class ItemServiceImpl implements ItemService {
+	private static final String ITEM_NOT_VALID_MESSAGE = "Имя, опоисание и статус доступа должны быть заполнены";
+	private static final int NAME_MAX_LENGTH = 127;
+	private static final int DESCRIPTION_MAX_LENGTH = 2000;
+	private static final String ITEM_TOO_LONG_MESSAGE = "Имя вещи должно быть не длиннее " + NAME_MAX_LENGTH
+			+ " символов, описание — не длиннее " + DESCRIPTION_MAX_LENGTH + " символов";
+
 	private ItemRepository itemRepository;
-	private UserRepository userRepository;
+	private UserCache userCache;
 	private BookingRepository bookingRepository;
 	private CommentRepository commentRepository;
+	private ItemSearchIndex itemSearchIndex;
+	private BookingIntervalIndex bookingIntervalIndex;
+	private ItemRequestMatcher itemRequestMatcher;
+	private RequestMatchingService requestMatchingService;
 
+	@Transactional
 	public ItemDto create(Long userId, ItemDto itemDto) {
 		Item item = ItemMapper.toItem(itemDto);
-		Optional<User> userOptional = userRepository.findById(userId);
-		if (itemDto.getAvailable() == null || itemDto.getName() == null || itemDto.getDescription() == null ||
-				itemDto.getName().isBlank() || itemDto.getDescription().isBlank()) {
-			throw new ItemNotValidException("Имя, опоисание и статус доступа должны быть заполнены");
+		Optional<User> userOptional = userCache.find(userId);
+		if (!isValidForCreate(itemDto)) {
+			throw new ItemNotValidException(ITEM_NOT_VALID_MESSAGE);
 		}
 		if (userOptional.isEmpty()) {
 			throw new UserNotFoundException("Пользователя с id: " + userId + " не существует");
@@ -46,11 +69,52 @@ public class ItemServiceImpl implements ItemService {
 		User user = userOptional.get();
 		item.setOwner(user);
 		itemRepository.save(item);
+		indexCreated(item);
 		itemDto = ItemMapper.toItemDto(item, null,
 				null, null);
 		return itemDto;
 	}
 
+	@Transactional
+	public List<ItemBatchResultDto> createBatch(Long userId, List<ItemDto> itemDtos) {
+		Optional<User> userOptional = userCache.find(userId);
+		if (userOptional.isEmpty()) {
+			throw new UserNotFoundException("Пользователя с id: " + userId + " не существует");
+		}
+		User user = userOptional.get();
+		List<Item> items = new ArrayList<>();
+		ItemBatchResultDto[] results = new ItemBatchResultDto[itemDtos.size()];
+		for (int i = 0; i < itemDtos.size(); i++) {
+			ItemDto itemDto = itemDtos.get(i);
+			if (itemDto == null || !isValidForCreate(itemDto)) {
+				results[i] = new ItemBatchResultDto(i, HttpStatus.BAD_REQUEST.value(), null, ITEM_NOT_VALID_MESSAGE);
+				continue;
+			}
+			if (itemDto.getName().length() > NAME_MAX_LENGTH
+					|| itemDto.getDescription().length() > DESCRIPTION_MAX_LENGTH) {
+				results[i] = new ItemBatchResultDto(i, HttpStatus.BAD_REQUEST.value(), null, ITEM_TOO_LONG_MESSAGE);
+				continue;
+			}
+			Item item = ItemMapper.toItem(itemDto);
+			item.setId(null);
+			item.setOwner(user);
+			items.add(item);
+		}
+		List<Item> saved = itemRepository.saveAll(items);
+		Iterator<Item> savedItems = saved.iterator();
+		for (int i = 0; i < results.length; i++) {
+			if (results[i] != null) continue;
+			Item item = savedItems.next();
+			itemSearchIndex.index(item);
+			itemRequestMatcher.index(item);
+			results[i] = new ItemBatchResultDto(i, HttpStatus.CREATED.value(),
+					ItemMapper.toItemDto(item, null, null, null), null);
+		}
+		requestMatchingService.submitAll(saved);
+		return Arrays.asList(results);
+	}
+
+	@Transactional
 	public ItemDto update(Long userId, Long itemId, ItemDto itemDto) {
 		Optional<Item> itemOptional = itemRepository.findById(itemId);
 		if (itemOptional.isEmpty()) throw new ItemNotFoundException("Вещь с id=" + itemId + " не найдена");
@@ -67,6 +131,9 @@ public class ItemServiceImpl implements ItemService {
 		if (updateItem.getAvailable() == null) updateItem.setAvailable(oldItem.getAvailable());
 		updateItem.setId(itemId);
 		Item item = itemRepository.save(updateItem);
+		itemSearchIndex.index(item);
+		itemRequestMatcher.index(item);
+		requestMatchingService.submit(item);
 		return ItemMapper.toItemDto(item, null);
 	}
 
@@ -100,51 +167,94 @@ public class ItemServiceImpl implements ItemService {
 	public Collection<ItemDto> getItemsUser(Long userId, Integer from, Integer size) {
 		checkingParametersSizeAndFrom(from, size);
 		int page = from / size;
-		if (!userRepository.existsById(userId))
+		if (!userCache.exists(userId))
 			throw new UserNotFoundException("Пользователь с id=" + userId + " не найден");
 		Pageable pageRequest = PageRequest.of(page, size);
-		return itemRepository.findByOwnerIdOrderById(userId, pageRequest).stream()
-				.map(item -> {
-					Booking last = null;
-					Booking next = null;
-					if (Objects.equals(item.getOwner().getId(), userId)) {
-						LocalDateTime now = LocalDateTime.now();
-						last = bookingRepository.findFirstByItemIdAndStatusNotAndStartBeforeOrderByStartDesc(
-								item.getId(),
-								Status.REJECTED,
-								now
-						);
-						next = bookingRepository.findFirstByItemIdAndStatusNotAndStartAfterOrderByStartAsc(
-								item.getId(),
-								Status.REJECTED,
-								now
-						);
-					}
-					List<CommentDto> comments = commentRepository.findByItemIdOrderByCreatedDesc(item.getId())
-							.stream()
-							.map(comment -> CommentMapper.commentToDto(comment, comment.getAuthor().getName()))
-							.collect(Collectors.toList());
-					BookingDto lastBookingDto = last != null ? BookingMapper.toBookingDto(last) : null;
-					BookingDto nextBookingDto = next != null ? BookingMapper.toBookingDto(next) : null;
-					return ItemMapper.toItemDto(item, lastBookingDto, nextBookingDto, comments);
-				})
-				.collect(Collectors.toList()
-				);
+		List<Item> items = itemRepository.findByOwnerIdOrderById(userId, pageRequest);
+		if (items.isEmpty()) {
+			return new ArrayList<>();
+		}
+		List<Long> itemIds = items.stream().map(Item::getId).collect(Collectors.toList());
+		LocalDateTime now = LocalDateTime.now();
+		Map<Long, BookingDto> lastBookings = new HashMap<>();
+		Map<Long, BookingDto> nextBookings = new HashMap<>();
+		for (Booking booking : bookingRepository.findLastAndNextByItemIdIn(itemIds, now)) {
+			Long itemId = booking.getItem().getId();
+			if (booking.getStart().isBefore(now)) {
+				lastBookings.put(itemId, BookingMapper.toBookingDto(booking));
+			} else {
+				nextBookings.put(itemId, BookingMapper.toBookingDto(booking));
+			}
+		}
+		Map<Long, List<CommentDto>> comments = getCommentsByItemIds(itemIds);
+		return items.stream()
+				.map(item -> ItemMapper.toItemDto(
+						item,
+						lastBookings.get(item.getId()),
+						nextBookings.get(item.getId()),
+						comments.getOrDefault(item.getId(), new ArrayList<>())
+				))
+				.collect(Collectors.toList());
 	}
 
-	public Collection<ItemDto> getItemsByNameOrDescription(Long userId, String text, Integer from, Integer size) {
+	public Collection<ItemDto> getItemsByNameOrDescription(Long userId, String text, Integer from, Integer size,
+	                                                       String cursor) {
 		checkingParametersSizeAndFrom(from, size);
 		if (text.isBlank()) {
 			return new ArrayList<>();
 		}
-		return itemRepository.getItemsByNameOrDescription(text).stream()
-				.map(item -> ItemMapper.toItemDto(item,
-						commentRepository.findByItemIdOrderByCreatedDesc(item.getId()).stream()
-								.map(comment -> CommentMapper.commentToDto(comment, comment.getAuthor().getName()))
-								.collect(Collectors.toList())))
+		Long afterId = cursor != null ? PageCursor.decodeId(cursor) : null;
+		List<Item> items;
+		if (itemSearchIndex.canSearch(text)) {
+			long skip = afterId != null ? 0 : from;
+			List<Long> ids = itemSearchIndex.search(text).stream()
+					.filter(id -> afterId == null || id > afterId)
+					.skip(skip)
+					.limit(size)
+					.collect(Collectors.toList());
+			items = itemRepository.findAllById(ids).stream()
+					.sorted(Comparator.comparing(Item::getId))
+					.collect(Collectors.toList());
+		} else if (afterId != null) {
+			items = itemRepository.searchAvailableAfter(text, afterId, PageRequest.of(0, size));
+		} else {
+			items = itemRepository.searchAvailable(text, OffsetPageRequest.of(from, size));
+		}
+		if (items.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Map<Long, List<CommentDto>> comments = getCommentsByItemIds(
+				items.stream().map(Item::getId).collect(Collectors.toList()));
+		return items.stream()
+				.map(item -> ItemMapper.toItemDto(item, comments.getOrDefault(item.getId(), new ArrayList<>())))
 				.collect(Collectors.toList());
 	}
 
+	public ItemAvailabilityDto getAvailability(Long userId, Long itemId, LocalDateTime from, LocalDateTime to) {
+		if (!from.isBefore(to)) {
+			throw new BookingTimeException("Начало периода должно быть раньше его окончания");
+		}
+		if (!itemRepository.existsById(itemId)) {
+			throw new ItemNotFoundException("Вещь с id=" + itemId + " не найдена");
+		}
+		String version = bookingIntervalIndex.getVersion(itemId);
+		List<TimeSlotDto> freeSlots = new ArrayList<>();
+		LocalDateTime freeFrom = from;
+		for (Interval interval : bookingIntervalIndex.getIntervals(itemId, from, to)) {
+			if (interval.getStart().isAfter(freeFrom)) {
+				freeSlots.add(new TimeSlotDto(freeFrom, interval.getStart()));
+			}
+			if (interval.getEnd().isAfter(freeFrom)) {
+				freeFrom = interval.getEnd();
+			}
+		}
+		if (freeFrom.isBefore(to)) {
+			freeSlots.add(new TimeSlotDto(freeFrom, to));
+		}
+		return new ItemAvailabilityDto(itemId, from, to, freeSlots, version);
+	}
+
+	@Transactional
 	public CommentDto createComment(Long userId, Long itemId, CommentDto commentDto) {
 		if (commentDto.getText().isBlank()) {
 			throw new CommentaryEmptyException("Комментарий не может быть пустым");
@@ -154,7 +264,7 @@ public class ItemServiceImpl implements ItemService {
 			throw new ItemNotFoundException("Вещь с id: " + itemId + " не найдена");
 		}
 		Item item = itemOptional.get();
-		Optional<User> authorOptional = userRepository.findById(userId);
+		Optional<User> authorOptional = userCache.find(userId);
 		if (authorOptional.isEmpty()) {
 			throw new UserNotFoundException("Пользователь с id: " + userId + " не найден");
 		}
@@ -168,6 +278,26 @@ public class ItemServiceImpl implements ItemService {
 		return CommentMapper.commentToDto(comment, author.getName());
 	}
 
+	private Map<Long, List<CommentDto>> getCommentsByItemIds(List<Long> itemIds) {
+		return commentRepository.findByItemIdInOrderByCreatedDesc(itemIds).stream()
+				.collect(Collectors.groupingBy(
+						comment -> comment.getItem().getId(),
+						Collectors.mapping(comment -> CommentMapper.commentToDto(comment, comment.getAuthor().getName()),
+								Collectors.toList())
+				));
+	}
+
+	private void indexCreated(Item item) {
+		itemSearchIndex.index(item);
+		itemRequestMatcher.index(item);
+		requestMatchingService.submit(item);
+	}
+
+	private static boolean isValidForCreate(ItemDto itemDto) {
+		return itemDto.getAvailable() != null && itemDto.getName() != null && itemDto.getDescription() != null
+				&& !itemDto.getName().isBlank() && !itemDto.getDescription().isBlank();
+	}
+
 	public void checkingParametersSizeAndFrom(Integer from, Integer size) {
 		if (from < 0 || size <= 0) {
 			throw new NegativeValueException("Значения size = " + size + " или size = "
@@ -0,0 +1,40 @@
+package ru.practicum.shareit.pagination;
+
+import ru.practicum.shareit.exception.CursorNotValidException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+public class PageCursor {
+	public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+	private static final String SEPARATOR = ";";
+
+	public static String encode(Object... parts) {
+		StringBuilder value = new StringBuilder();
+		for (Object part : parts) {
+			if (value.length() > 0) value.append(SEPARATOR);
+			value.append(part);
+		}
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(value.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	public static String[] decode(String cursor, int partsCount) {
+		try {
+			String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = value.split(SEPARATOR, -1);
+			if (parts.length != partsCount) throw new IllegalArgumentException();
+			return parts;
+		} catch (IllegalArgumentException e) {
+			throw new CursorNotValidException("Некорректное значение cursor: " + cursor);
+		}
+	}
+
+	public static Long decodeId(String cursor) {
+		try {
+			return Long.valueOf(decode(cursor, 1)[0]);
+		} catch (NumberFormatException e) {
+			throw new CursorNotValidException("Некорректное значение cursor: " + cursor);
+		}
+	}
+}
@@ -3,7 +3,9 @@ package ru.practicum.shareit.request;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestOutDto;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.RequestMatch;
 import ru.practicum.shareit.user.model.User;
 
 import java.util.List;
@@ -27,11 +29,28 @@ public class ItemRequestMapper {
 	}
 
 	public static ItemRequestOutDto toItemRequestOutDto(ItemRequest itemRequest, List<ItemDto> items) {
+		return toItemRequestOutDto(itemRequest, items, null);
+	}
+
+	public static ItemRequestOutDto toItemRequestOutDto(ItemRequest itemRequest, List<ItemDto> items,
+	                                                    List<RequestMatchDto> matches) {
 		return new ItemRequestOutDto(
 				itemRequest.getId(),
 				itemRequest.getDescription(),
 				itemRequest.getCreated(),
-				items
+				items,
+				matches
+		);
+	}
+
+	public static RequestMatchDto toRequestMatchDto(RequestMatch match) {
+		return new RequestMatchDto(
+				match.getId(),
+				match.getRequestId(),
+				match.getItem().getId(),
+				match.getItem().getName(),
+				match.getScore(),
+				match.getCreated()
 		);
 	}
 }
@@ -1,7 +1,9 @@
 package ru.practicum.shareit.request.controller;
 
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestOutDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
@@ -32,6 +34,11 @@ public class ItemRequestController {
 		return itemRequestService.getAllRequests(userId, from, size);
 	}
 
+	@GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter streamMatches(@RequestHeader("X-Sharer-User-Id") Long userId) {
+		return itemRequestService.subscribeToMatches(userId);
+	}
+
 	@GetMapping("/{requestId}")
 	public ItemRequestOutDto getByIdRequest(@RequestHeader("X-Sharer-User-Id") Long userId,
 	                                        @PathVariable Long requestId) {
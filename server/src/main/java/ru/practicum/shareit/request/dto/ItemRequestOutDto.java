@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import ru.practicum.shareit.item.dto.ItemDto;
@@ -15,4 +16,6 @@ public class ItemRequestOutDto {
 	private String description;
 	private LocalDateTime created;
 	private List<ItemDto> items;
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private List<RequestMatchDto> matches;
 }
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.request.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class RequestMatchDto {
+	private Long id;
+	private Long requestId;
+	private Long itemId;
+	private String itemName;
+	private Double score;
+	private LocalDateTime created;
+}
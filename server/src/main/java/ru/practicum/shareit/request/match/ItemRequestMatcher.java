@@ -0,0 +1,84 @@
+package ru.practicum.shareit.request.match;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.index.TokenIndex;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.transaction.TransactionCallbacks;
+
+import java.util.*;
+import java.util.function.Function;
+
+@Component
+@Slf4j
+public class ItemRequestMatcher {
+	public static final int MAX_QUERY_TOKENS = 32;
+	private static final double EPSILON = 1e-9;
+
+	private final ItemRepository itemRepository;
+	private final double threshold;
+	private final TokenIndex<Set<String>> index = new TokenIndex<>(Function.identity());
+	private volatile boolean ready;
+
+	public ItemRequestMatcher(ItemRepository itemRepository,
+	                          @Value("${shareit.request.match.threshold:1.0}") double threshold) {
+		if (threshold <= 0 || threshold > 1) {
+			throw new IllegalArgumentException("Порог схожести должен быть в интервале (0, 1], получено " + threshold);
+		}
+		this.itemRepository = itemRepository;
+		this.threshold = threshold;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void build() {
+		TokenIndex.load(itemRepository::findAll, this::apply);
+		ready = true;
+		log.info("Индекс токенов для запросов построен, проиндексировано {} вещей", index.size());
+	}
+
+	public boolean hasMatch(String description) {
+		if (!ready) return !itemRepository.getItemsByNameOrDescription(description).isEmpty();
+		List<String> tokens = new ArrayList<>(Tokens.of(description));
+		if (tokens.isEmpty()) return false;
+		if (tokens.size() > MAX_QUERY_TOKENS) tokens = tokens.subList(0, MAX_QUERY_TOKENS);
+		int required = (int) Math.ceil(threshold * tokens.size() - EPSILON);
+		List<Set<Long>> lists = new ArrayList<>();
+		for (String token : tokens) {
+			lists.add(index.find(token));
+		}
+		lists.sort(Comparator.comparingInt(Set::size));
+		Set<Long> checked = new HashSet<>();
+		for (int i = 0; i <= tokens.size() - required; i++) {
+			for (Long id : lists.get(i)) {
+				if (checked.add(id) && countShared(index.get(id), tokens) >= required) return true;
+			}
+		}
+		return false;
+	}
+
+	public void index(Item item) {
+		TransactionCallbacks.afterCommit(() -> apply(item));
+	}
+
+	private void apply(Item item) {
+		if (item.getId() == null) return;
+		if (!Boolean.TRUE.equals(item.getAvailable())) {
+			index.remove(item.getId());
+			return;
+		}
+		index.put(item.getId(), Tokens.of(item.getName(), item.getDescription()));
+	}
+
+	private static int countShared(Set<String> document, List<String> tokens) {
+		if (document == null) return 0;
+		int shared = 0;
+		for (String token : tokens) {
+			if (document.contains(token)) shared++;
+		}
+		return shared;
+	}
+}
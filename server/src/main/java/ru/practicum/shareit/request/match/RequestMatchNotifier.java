@@ -0,0 +1,63 @@
+package ru.practicum.shareit.request.match;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+@Component
+@Slf4j
+public class RequestMatchNotifier {
+	public static final String EVENT_NAME = "match";
+
+	private final long timeout;
+	private final Map<Long, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+	public RequestMatchNotifier(@Value("${shareit.request.match.stream-timeout:1800000}") long timeout) {
+		this.timeout = timeout;
+	}
+
+	public SseEmitter subscribe(Long userId) {
+		SseEmitter emitter = new SseEmitter(timeout);
+		emitters.computeIfAbsent(userId, key -> new CopyOnWriteArraySet<>()).add(emitter);
+		emitter.onCompletion(() -> unsubscribe(userId, emitter));
+		emitter.onTimeout(() -> unsubscribe(userId, emitter));
+		emitter.onError(e -> unsubscribe(userId, emitter));
+		return emitter;
+	}
+
+	public void publish(Long userId, RequestMatchDto match) {
+		Set<SseEmitter> userEmitters = emitters.get(userId);
+		if (userEmitters == null) return;
+		for (SseEmitter emitter : userEmitters) {
+			try {
+				emitter.send(SseEmitter.event()
+						.name(EVENT_NAME)
+						.id(String.valueOf(match.getId()))
+						.data(match));
+			} catch (IOException | IllegalStateException e) {
+				log.debug("Подписчик пользователя с id={} отключился: {}", userId, e.getMessage());
+				unsubscribe(userId, emitter);
+			}
+		}
+	}
+
+	public int subscribers(Long userId) {
+		Set<SseEmitter> userEmitters = emitters.get(userId);
+		return userEmitters == null ? 0 : userEmitters.size();
+	}
+
+	private void unsubscribe(Long userId, SseEmitter emitter) {
+		emitters.computeIfPresent(userId, (key, userEmitters) -> {
+			userEmitters.remove(emitter);
+			return userEmitters.isEmpty() ? null : userEmitters;
+		});
+	}
+}
@@ -0,0 +1,185 @@
+package ru.practicum.shareit.request.match;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.index.TokenIndex;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.RequestMatch;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.RequestMatchRepository;
+import ru.practicum.shareit.transaction.TransactionCallbacks;
+
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@Slf4j
+public class RequestMatchingService {
+	public static final double EXPLICIT_MATCH_SCORE = 1.0;
+	private static final double EPSILON = 1e-9;
+	private static final int STRIPES = 64;
+
+	private final ItemRequestRepository itemRequestRepository;
+	private final RequestMatchRepository requestMatchRepository;
+	private final ItemRepository itemRepository;
+	private final RequestMatchNotifier notifier;
+	private final Executor executor;
+	private final double threshold;
+	private final TokenIndex<IndexedRequest> requests = new TokenIndex<>(request -> request.tokens);
+	private final Lock[] locks = new Lock[STRIPES];
+
+	@Autowired
+	public RequestMatchingService(ItemRequestRepository itemRequestRepository,
+	                              RequestMatchRepository requestMatchRepository,
+	                              ItemRepository itemRepository,
+	                              RequestMatchNotifier notifier,
+	                              @Value("${shareit.request.match.threshold:1.0}") double threshold,
+	                              @Value("${shareit.request.match.pool-size:2}") int poolSize,
+	                              @Value("${shareit.request.match.queue-capacity:1000}") int queueCapacity) {
+		this(itemRequestRepository, requestMatchRepository, itemRepository, notifier, threshold,
+				new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+						new ArrayBlockingQueue<>(queueCapacity), RequestMatchingService::newThread,
+						(task, pool) -> log.warn("Очередь сопоставления запросов переполнена, задача отброшена")));
+	}
+
+	RequestMatchingService(ItemRequestRepository itemRequestRepository,
+	                       RequestMatchRepository requestMatchRepository,
+	                       ItemRepository itemRepository,
+	                       RequestMatchNotifier notifier,
+	                       double threshold,
+	                       Executor executor) {
+		this.itemRequestRepository = itemRequestRepository;
+		this.requestMatchRepository = requestMatchRepository;
+		this.itemRepository = itemRepository;
+		this.notifier = notifier;
+		this.threshold = threshold;
+		this.executor = executor;
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void build() {
+		TokenIndex.load(itemRequestRepository::findAll, this::applyRequest);
+		log.info("Индекс запросов для сопоставления построен, проиндексировано {} запросов", requests.size());
+	}
+
+	public void indexRequest(ItemRequest itemRequest) {
+		TransactionCallbacks.afterCommit(() -> applyRequest(itemRequest));
+	}
+
+	public void submit(Item item) {
+		submitAll(List.of(item));
+	}
+
+	public void submitAll(Collection<Item> items) {
+		List<IndexedItem> indexedItems = new ArrayList<>();
+		for (Item item : items) {
+			if (item.getId() == null || !Boolean.TRUE.equals(item.getAvailable())) continue;
+			indexedItems.add(new IndexedItem(item.getId(), item.getOwner() == null ? null : item.getOwner().getId(),
+					item.getRequestId(), item.getName(), Tokens.of(item.getName(), item.getDescription())));
+		}
+		if (indexedItems.isEmpty()) return;
+		TransactionCallbacks.afterCommit(() -> executor.execute(() -> indexedItems.forEach(this::matchExclusively)));
+	}
+
+	private void matchExclusively(IndexedItem item) {
+		Lock lock = locks[Math.floorMod(item.id.hashCode(), STRIPES)];
+		lock.lock();
+		try {
+			match(item);
+		} catch (RuntimeException e) {
+			log.error("Не удалось сопоставить вещь с id={} с запросами", item.id, e);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	void match(IndexedItem item) {
+		Map<Long, Integer> shared = new HashMap<>();
+		for (String token : item.tokens) {
+			for (Long requestId : requests.find(token)) {
+				shared.merge(requestId, 1, Integer::sum);
+			}
+		}
+		Map<Long, Double> scores = new HashMap<>();
+		shared.forEach((requestId, count) -> {
+			IndexedRequest request = requests.get(requestId);
+			if (request == null || Objects.equals(request.requestorId, item.ownerId)) return;
+			double score = (double) count / request.tokens.size();
+			if (score + EPSILON >= threshold) scores.put(requestId, score);
+		});
+		if (item.requestId != null && requests.contains(item.requestId)) {
+			scores.put(item.requestId, EXPLICIT_MATCH_SCORE);
+		}
+		if (scores.isEmpty()) return;
+		requestMatchRepository.findRequestIdsByItemId(item.id).forEach(scores::remove);
+		if (scores.isEmpty()) return;
+
+		Item reference = itemRepository.getReferenceById(item.id);
+		LocalDateTime now = LocalDateTime.now();
+		List<RequestMatch> matches = new ArrayList<>();
+		scores.forEach((requestId, score) -> matches.add(new RequestMatch(null, requestId, reference, score, now)));
+		for (RequestMatch match : requestMatchRepository.saveAll(matches)) {
+			IndexedRequest request = requests.get(match.getRequestId());
+			notifier.publish(request.requestorId, new RequestMatchDto(match.getId(), match.getRequestId(), item.id,
+					item.name, match.getScore(), match.getCreated()));
+		}
+		log.info("Вещь с id={} сопоставлена с запросами {}", item.id, scores.keySet());
+	}
+
+	@PreDestroy
+	public void shutdown() {
+		if (executor instanceof ExecutorService) ((ExecutorService) executor).shutdown();
+	}
+
+	private void applyRequest(ItemRequest itemRequest) {
+		if (itemRequest.getId() == null) return;
+		requests.put(itemRequest.getId(), new IndexedRequest(itemRequest.getRequestor().getId(),
+				Tokens.of(itemRequest.getDescription())));
+	}
+
+	private static Thread newThread(Runnable task) {
+		Thread thread = new Thread(task, "request-match");
+		thread.setDaemon(true);
+		return thread;
+	}
+
+	static class IndexedItem {
+		private final Long id;
+		private final Long ownerId;
+		private final Long requestId;
+		private final String name;
+		private final Set<String> tokens;
+
+		IndexedItem(Long id, Long ownerId, Long requestId, String name, Set<String> tokens) {
+			this.id = id;
+			this.ownerId = ownerId;
+			this.requestId = requestId;
+			this.name = name;
+			this.tokens = tokens;
+		}
+	}
+
+	private static class IndexedRequest {
+		private final Long requestorId;
+		private final Set<String> tokens;
+
+		private IndexedRequest(Long requestorId, Set<String> tokens) {
+			this.requestorId = requestorId;
+			this.tokens = tokens;
+		}
+	}
+}
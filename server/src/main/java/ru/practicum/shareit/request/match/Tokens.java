@@ -0,0 +1,28 @@
+package ru.practicum.shareit.request.match;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+final class Tokens {
+	static final int MIN_TOKEN_LENGTH = 2;
+	private static final Pattern DELIMITER = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	private Tokens() {
+	}
+
+	static Set<String> of(String text) {
+		Set<String> tokens = new LinkedHashSet<>();
+		if (text == null) return tokens;
+		for (String token : DELIMITER.split(text.toLowerCase())) {
+			if (token.length() >= MIN_TOKEN_LENGTH) tokens.add(token);
+		}
+		return tokens;
+	}
+
+	static Set<String> of(String name, String description) {
+		Set<String> tokens = of(name);
+		tokens.addAll(of(description));
+		return tokens;
+	}
+}
@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 public class ItemRequest {
     @Id
     @Column(name = "item_request_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "item_request_seq")
+    @SequenceGenerator(name = "item_request_seq", sequenceName = "item_request_seq", allocationSize = 50)
     private Long id;
     @Column(name = "description", length = 512, nullable = false)
     private String description;
@@ -0,0 +1,29 @@
+package ru.practicum.shareit.request.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import ru.practicum.shareit.item.model.Item;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "request_matches")
+public class RequestMatch {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_match_seq")
+	@SequenceGenerator(name = "request_match_seq", sequenceName = "request_match_seq", allocationSize = 50)
+	@Column(name = "match_id")
+	private Long id;
+	@Column(name = "request_id")
+	private Long requestId;
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "item_id")
+	private Item item;
+	private Double score;
+	private LocalDateTime created;
+}
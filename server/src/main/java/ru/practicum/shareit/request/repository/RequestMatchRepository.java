@@ -0,0 +1,15 @@
+package ru.practicum.shareit.request.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.request.model.RequestMatch;
+
+import java.util.List;
+
+public interface RequestMatchRepository extends JpaRepository<RequestMatch, Long> {
+	@Query("select m from RequestMatch as m join fetch m.item where m.requestId = ?1 order by m.score desc, m.id")
+	List<RequestMatch> findByRequestId(Long requestId);
+
+	@Query("select m.requestId from RequestMatch as m where m.item.id = ?1")
+	List<Long> findRequestIdsByItemId(Long itemId);
+}
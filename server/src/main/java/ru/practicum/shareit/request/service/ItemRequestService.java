@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.service;
 
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestOutDto;
 
@@ -13,4 +14,6 @@ public interface ItemRequestService {
 	List<ItemRequestOutDto> getAllRequests(Long userId, Integer from, Integer size);
 
 	ItemRequestOutDto getByIdRequest(Long userId, Long requestId);
+
+	SseEmitter subscribeToMatches(Long userId);
 }
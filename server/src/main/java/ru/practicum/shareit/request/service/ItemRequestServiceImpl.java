@@ -4,66 +4,74 @@ import lombok.AllArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.practicum.shareit.exception.ItemRequestExistsException;
 import ru.practicum.shareit.exception.ItemRequestNotFoundException;
 import ru.practicum.shareit.exception.NegativeValueException;
 import ru.practicum.shareit.exception.UserNotFoundException;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.ItemRequestMapper;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestOutDto;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
+import ru.practicum.shareit.request.match.ItemRequestMatcher;
+import ru.practicum.shareit.request.match.RequestMatchNotifier;
+import ru.practicum.shareit.request.match.RequestMatchingService;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.request.repository.RequestMatchRepository;
+import ru.practicum.shareit.user.UserCache;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
 @AllArgsConstructor
+@Transactional(readOnly = true)
 public class ItemRequestServiceImpl implements ItemRequestService {
 	private ItemRequestRepository itemRequestRepository;
 	private ItemRepository itemRepository;
-	private UserRepository userRepository;
+	private UserCache userCache;
+	private ItemRequestMatcher itemRequestMatcher;
+	private RequestMatchRepository requestMatchRepository;
+	private RequestMatchingService requestMatchingService;
+	private RequestMatchNotifier requestMatchNotifier;
 
 	@Override
+	@Transactional
 	public ItemRequestDto create(Long userId, ItemRequestDto itemRequestDto) {
-		Optional<User> optionalUser = userRepository.findById(userId);
+		Optional<User> optionalUser = userCache.find(userId);
 		if (optionalUser.isEmpty()) {
 			throw new UserNotFoundException("Пользователь с id: " + userId + " не найден");
 		}
 		User user = optionalUser.get();
-		if (!itemRepository.getItemsByNameOrDescription(itemRequestDto.getDescription()).isEmpty()) {
+		if (itemRequestMatcher.hasMatch(itemRequestDto.getDescription())) {
 			throw new ItemRequestExistsException("Вещь под запрос уже существует");
 		}
 		ItemRequest itemRequest = ItemRequestMapper.toItemRequest(itemRequestDto, user);
 		itemRequest.setCreated(LocalDateTime.now());
 		itemRequest.setRequestor(user);
 		itemRequestRepository.save(itemRequest);
+		requestMatchingService.indexRequest(itemRequest);
 		return ItemRequestMapper.toItemRequestDto(itemRequest);
 	}
 
 	@Override
 	public List<ItemRequestOutDto> getYourRequests(Long userId) {
-		if (userRepository.findById(userId).isEmpty()) {
+		if (userCache.find(userId).isEmpty()) {
 			throw new UserNotFoundException("Пользователь с id: " + userId + " не найден");
 		}
 		List<ItemRequest> itemRequests = itemRequestRepository.findByRequestorId(userId);
-		return itemRequests.stream()
-				.map(itemRequest -> ItemRequestMapper.toItemRequestOutDto(itemRequest, new ArrayList<>()))
-				.peek(itemRequestOutDto -> {
-					List<ItemDto> items = itemRepository.findByRequestId(itemRequestOutDto.getId()).stream()
-							.map(item -> ItemMapper.toItemDto(item, null))
-							.collect(Collectors.toList());
-					itemRequestOutDto.setItems(items);
-				})
-				.collect(Collectors.toList());
+		return toItemRequestOutDtos(itemRequests);
 	}
 
 	@Override
@@ -71,27 +79,38 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 		if (from < 0 || size <= 0) {
 			throw new NegativeValueException("Значения " + size + " и " + from + " имеют некорректные значения");
 		}
-		if (userRepository.findById(userId).isEmpty()) {
+		if (userCache.find(userId).isEmpty()) {
 			throw new UserNotFoundException("Пользователь с id: " + userId + " не найден");
 		}
 		int page = from / size;
 		Pageable pageRequest = PageRequest.of(page, size);
 		List<ItemRequest> itemRequests = itemRequestRepository
 				.findAllByRequestorIdIsNotOrderByCreatedDesc(userId, pageRequest);
+		return toItemRequestOutDtos(itemRequests);
+	}
+
+	private List<ItemRequestOutDto> toItemRequestOutDtos(List<ItemRequest> itemRequests) {
+		if (itemRequests.isEmpty()) return new ArrayList<>();
+		Map<Long, List<ItemDto>> itemsByRequestId = getItemsByRequestIds(itemRequests.stream()
+				.map(ItemRequest::getId)
+				.collect(Collectors.toList()));
 		return itemRequests.stream()
-				.map(itemRequest -> ItemRequestMapper.toItemRequestOutDto(itemRequest, new ArrayList<>()))
-				.peek(itemRequestOutDto -> {
-					List<ItemDto> items = itemRepository.findByRequestId(itemRequestOutDto.getId()).stream()
-							.map(item -> ItemMapper.toItemDto(item, null))
-							.collect(Collectors.toList());
-					itemRequestOutDto.setItems(items);
-				})
+				.map(itemRequest -> ItemRequestMapper.toItemRequestOutDto(itemRequest,
+						itemsByRequestId.getOrDefault(itemRequest.getId(), new ArrayList<>())))
 				.collect(Collectors.toList());
 	}
 
+	private Map<Long, List<ItemDto>> getItemsByRequestIds(List<Long> requestIds) {
+		return itemRepository.findByRequestIdIn(requestIds).stream()
+				.collect(Collectors.groupingBy(
+						Item::getRequestId,
+						Collectors.mapping(item -> ItemMapper.toItemDto(item, null), Collectors.toList())
+				));
+	}
+
 	@Override
 	public ItemRequestOutDto getByIdRequest(Long userId, Long requestId) {
-		if (userRepository.findById(userId).isEmpty()) {
+		if (userCache.find(userId).isEmpty()) {
 			throw new UserNotFoundException("Пользователь с id: " + userId + " не найден");
 		}
 		Optional<ItemRequest> itemRequest = itemRequestRepository.findById(requestId);
@@ -101,6 +120,17 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 		List<ItemDto> items = itemRepository.findByRequestId(requestId).stream()
 				.map(item -> ItemMapper.toItemDto(item, null))
 				.collect(Collectors.toList());
-		return ItemRequestMapper.toItemRequestOutDto(itemRequest.get(), items);
+		List<RequestMatchDto> matches = requestMatchRepository.findByRequestId(requestId).stream()
+				.map(ItemRequestMapper::toRequestMatchDto)
+				.collect(Collectors.toList());
+		return ItemRequestMapper.toItemRequestOutDto(itemRequest.get(), items, matches);
+	}
+
+	@Override
+	public SseEmitter subscribeToMatches(Long userId) {
+		if (!userCache.exists(userId)) {
+			throw new UserNotFoundException("Пользователь с id: " + userId + " не найден");
+		}
+		return requestMatchNotifier.subscribe(userId);
 	}
 }
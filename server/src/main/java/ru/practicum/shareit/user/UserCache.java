@@ -0,0 +1,53 @@
+package ru.practicum.shareit.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.transaction.TransactionCallbacks;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.Duration;
+import java.util.Optional;
+
+@Component
+public class UserCache {
+	public static final String CACHE_NAME = "users";
+
+	private final UserRepository userRepository;
+	private final Cache<Long, User> users;
+
+	public UserCache(UserRepository userRepository,
+	                 MeterRegistry meterRegistry,
+	                 @Value("${shareit.user.cache.max-size:10000}") long maxSize,
+	                 @Value("${shareit.user.cache.ttl:10m}") Duration ttl) {
+		this.userRepository = userRepository;
+		this.users = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttl)
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, users, CACHE_NAME);
+	}
+
+	public Optional<User> find(Long id) {
+		if (id == null) return Optional.empty();
+		User user = users.get(id, key -> userRepository.findById(key).map(UserCache::copy).orElse(null));
+		return Optional.ofNullable(user).map(UserCache::copy);
+	}
+
+	public boolean exists(Long id) {
+		return find(id).isPresent();
+	}
+
+	public void invalidate(Long id) {
+		users.invalidate(id);
+		TransactionCallbacks.afterCompletion(() -> users.invalidate(id));
+	}
+
+	private static User copy(User user) {
+		return new User(user.getId(), user.getName(), user.getEmail());
+	}
+}
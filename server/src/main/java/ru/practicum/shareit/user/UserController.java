@@ -1,10 +1,15 @@
 package ru.practicum.shareit.user;
 
 import lombok.AllArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.dto.UserDto;
 
-import java.util.Collection;
+import java.util.ArrayList;
+import java.util.List;
 
 @RestController
 @RequestMapping(path = "/users")
@@ -18,8 +23,22 @@ public class UserController {
 	}
 
 	@GetMapping
-	public Collection<UserDto> getUsers() {
-		return service.getUsers();
+	public ResponseEntity<List<UserDto>> getUsers(@RequestParam(defaultValue = "0") Integer from,
+	                                              @RequestParam(defaultValue = "10") Integer size,
+	                                              @RequestParam(required = false) String cursor) {
+		List<UserDto> users = new ArrayList<>(service.getUsers(from, size, cursor));
+		ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+		if (users.size() == size) {
+			response.header(PageCursor.NEXT_CURSOR_HEADER, PageCursor.encode(users.get(users.size() - 1).getId()));
+		}
+		return response.body(users);
+	}
+
+	@GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportUsers() {
+		return ResponseEntity.ok()
+				.contentType(MediaType.APPLICATION_NDJSON)
+				.body(service::exportUsers);
 	}
 
 	@PostMapping
@@ -1,8 +1,22 @@
 package ru.practicum.shareit.user;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
+import javax.persistence.QueryHint;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
 public interface  UserRepository extends JpaRepository<User, Long> {
+	List<User> findAllByIdGreaterThanOrderById(Long afterId, Pageable pageRequest);
 
+	@QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+	@Query("select new ru.practicum.shareit.user.dto.UserDto(u.id, u.name, u.email) from User as u order by u.id")
+	Stream<UserDto> streamAll();
 }
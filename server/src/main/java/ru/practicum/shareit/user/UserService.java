@@ -1,40 +1,76 @@
 package ru.practicum.shareit.user;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.exception.NegativeValueException;
 import ru.practicum.shareit.exception.UserAlreadyExistsException;
 import ru.practicum.shareit.exception.UserNotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
+@Transactional(readOnly = true)
 public class UserService {
 	private final UserRepository userRepository;
+	private final UserCache userCache;
+	private final ObjectMapper objectMapper;
 
-	public Collection<UserDto> getUsers() {
-		return userRepository.findAll().stream().map(UserMapper::toItemDto).collect(Collectors.toList());
+	public Collection<UserDto> getUsers(Integer from, Integer size, String cursor) {
+		checkingParametersSizeAndFrom(from, size);
+		List<User> users;
+		if (cursor != null) {
+			users = userRepository.findAllByIdGreaterThanOrderById(PageCursor.decodeId(cursor), PageRequest.of(0, size));
+		} else {
+			users = userRepository.findAll(OffsetPageRequest.of(from, size, Sort.by("id"))).getContent();
+		}
+		return users.stream().map(UserMapper::toItemDto).collect(Collectors.toList());
+	}
+
+	public void exportUsers(OutputStream output) throws IOException {
+		ObjectWriter writer = objectMapper.writerFor(UserDto.class);
+		try (Stream<UserDto> users = userRepository.streamAll()) {
+			Iterator<UserDto> iterator = users.iterator();
+			while (iterator.hasNext()) {
+				output.write(writer.writeValueAsBytes(iterator.next()));
+				output.write('\n');
+			}
+		}
+		output.flush();
 	}
 
 	public UserDto getUsersById(Long id) {
-		Optional<User> userOptional = userRepository.findById(id);
+		Optional<User> userOptional = userCache.find(id);
 		if (userOptional.isEmpty()) throw new UserNotFoundException("Пользователь с id=" + id + " не найден");
 		User user = userOptional.get();
 		return UserMapper.toItemDto(user);
 	}
 
+	@Transactional
 	public UserDto create(UserDto userDto) {
 		try {
 			User user = UserMapper.toItem(userDto);
 			createValidate(user);
-			userRepository.save(user);
+			userRepository.saveAndFlush(user);
 			log.info("Добавлен пользователь {}", user);
 			return UserMapper.toItemDto(user);
 		} catch (ValidationException e) {
@@ -44,6 +80,7 @@ public class UserService {
 		}
 	}
 
+	@Transactional
 	public UserDto update(Long id, UserDto userDto) {
 		Optional<User> userOptional = userRepository.findById(id);
 		if (userOptional.isEmpty()) {
@@ -51,11 +88,22 @@ public class UserService {
 		}
 		User user = userOptional.get();
 		updateValidate(userDto, user);
-		return UserMapper.toItemDto(userRepository.save(user));
+		User updatedUser = userRepository.save(user);
+		userCache.invalidate(id);
+		return UserMapper.toItemDto(updatedUser);
 	}
 
+	@Transactional
 	public void delete(long id) {
 		userRepository.deleteById(id);
+		userCache.invalidate(id);
+	}
+
+	private void checkingParametersSizeAndFrom(Integer from, Integer size) {
+		if (from < 0 || size <= 0) {
+			throw new NegativeValueException("Значения size = " + size + " или from = "
+					+ from + " имеют некорректные значения");
+		}
 	}
 
 	private void updateValidate(UserDto userDto, User user) {
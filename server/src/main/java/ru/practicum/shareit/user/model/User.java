@@ -12,7 +12,8 @@ import javax.persistence.*;
 @Table(name = "users")
 public class User {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+	@SequenceGenerator(name = "user_seq", sequenceName = "user_seq", allocationSize = 50)
 	@Column(name = "user_id")
 	private Long id;
 	@Column(name = "name", length = 512)
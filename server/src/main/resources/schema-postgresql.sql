@@ -0,0 +1,10 @@
+SELECT setval('user_seq', GREATEST((SELECT COALESCE(MAX(user_id), 1) FROM users), (SELECT last_value FROM user_seq)));
+SELECT setval('item_seq', GREATEST((SELECT COALESCE(MAX(item_id), 1) FROM items), (SELECT last_value FROM item_seq)));
+SELECT setval('booking_seq', GREATEST((SELECT COALESCE(MAX(booking_id), 1) FROM bookings),
+    (SELECT last_value FROM booking_seq)));
+SELECT setval('comment_seq', GREATEST((SELECT COALESCE(MAX(comment_id), 1) FROM comments),
+    (SELECT last_value FROM comment_seq)));
+SELECT setval('item_request_seq', GREATEST((SELECT COALESCE(MAX(item_request_id), 1) FROM item_requests),
+    (SELECT last_value FROM item_request_seq)));
+SELECT setval('request_match_seq', GREATEST((SELECT COALESCE(MAX(match_id), 1) FROM request_matches),
+    (SELECT last_value FROM request_match_seq)));
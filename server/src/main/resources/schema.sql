@@ -46,3 +46,35 @@ CREATE TABLE IF NOT EXISTS item_requests (
     CONSTRAINT fk_item_request_to_users FOREIGN KEY(requestor_id) REFERENCES users(user_id)
     );
 
+
+CREATE INDEX IF NOT EXISTS idx_bookings_booker_start ON bookings (booker_id, start_time);
+CREATE INDEX IF NOT EXISTS idx_bookings_item_start ON bookings (item_id, start_time);
+CREATE INDEX IF NOT EXISTS idx_bookings_status_start ON bookings (status, start_time);
+
+ALTER TABLE bookings ADD COLUMN IF NOT EXISTS owner_id BIGINT;
+CREATE INDEX IF NOT EXISTS idx_bookings_owner_start ON bookings (owner_id, start_time);
+UPDATE bookings SET owner_id = (SELECT i.owner_id FROM items AS i WHERE i.item_id = bookings.item_id)
+    WHERE owner_id IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_items_request ON items (request_id);
+CREATE INDEX IF NOT EXISTS idx_item_requests_requestor_created ON item_requests (requestor_id, created);
+
+CREATE TABLE IF NOT EXISTS request_matches (
+    match_id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
+    request_id BIGINT NOT NULL,
+    item_id BIGINT NOT NULL,
+    score DOUBLE PRECISION NOT NULL,
+    created TIMESTAMP NOT NULL,
+    CONSTRAINT pk_request_matches PRIMARY KEY (match_id),
+    CONSTRAINT fk_request_matches_to_item_requests FOREIGN KEY(request_id) REFERENCES item_requests(item_request_id),
+    CONSTRAINT fk_request_matches_to_items FOREIGN KEY(item_id) REFERENCES items(item_id),
+    CONSTRAINT uq_request_matches_request_item UNIQUE (request_id, item_id)
+    );
+CREATE INDEX IF NOT EXISTS idx_request_matches_item ON request_matches (item_id);
+
+CREATE SEQUENCE IF NOT EXISTS user_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS item_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS booking_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS comment_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS item_request_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS request_match_seq START WITH 1 INCREMENT BY 50;
@@ -9,11 +9,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoFull;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.BookingStatusConflictException;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.nio.charset.StandardCharsets;
@@ -25,6 +29,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -104,6 +109,47 @@ public class BookingControllerTest {
 				.andExpect(jsonPath("$.booker.id").value(bookingDtoOutgoing.getBooker().getId()));
 	}
 
+	@SneakyThrows
+	@Test
+	public void shouldReturnConflictWhenBookingStatusChangedConcurrently() {
+		when(bookingService.updateBookingStatus(anyLong(), anyLong(), anyBoolean()))
+				.thenThrow(new BookingStatusConflictException("Статус бронирования уже изменён другим запросом"));
+
+		mvc.perform(patch("/bookings/1")
+						.header("X-Sharer-User-Id", 1)
+						.param("approved", String.valueOf(false))
+						.characterEncoding(StandardCharsets.UTF_8)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isConflict())
+				.andExpect(jsonPath("$.error").value("Статус бронирования уже изменён другим запросом"));
+	}
+
+	@SneakyThrows
+	@Test
+	public void shouldApproveBookingsInBatch() {
+		List<BookingStatusUpdateDto> updates = List.of(
+				new BookingStatusUpdateDto(1L, true),
+				new BookingStatusUpdateDto(2L, false));
+		when(bookingService.updateBookingStatuses(1L, updates))
+				.thenReturn(List.of(
+						new BookingBatchResultDto(1L, 200, bookingDtoOutgoing, null),
+						new BookingBatchResultDto(2L, 404, null, "Бронирование с id=2 не найдено")));
+
+		mvc.perform(patch("/bookings/batch")
+						.header("X-Sharer-User-Id", 1)
+						.content(mapper.writeValueAsString(updates))
+						.characterEncoding(StandardCharsets.UTF_8)
+						.contentType(MediaType.APPLICATION_JSON)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].bookingId").value(1))
+				.andExpect(jsonPath("$[0].status").value(200))
+				.andExpect(jsonPath("$[0].booking.item.id").value(bookingDtoOutgoing.getItem().getId()))
+				.andExpect(jsonPath("$[0].error").doesNotExist())
+				.andExpect(jsonPath("$[1].status").value(404))
+				.andExpect(jsonPath("$[1].booking").doesNotExist());
+	}
+
 	@Test
 	public void shouldGetBookingById() throws Exception {
 		when(bookingService.getBookingInformation(anyLong(), anyLong()))
@@ -124,7 +170,7 @@ public class BookingControllerTest {
 
 	@Test
 	public void shouldGetUserBookings() throws Exception {
-		when(bookingService.getBooking(anyLong(), anyString(), anyInt(), anyInt()))
+		when(bookingService.getBooking(anyLong(), anyString(), anyInt(), anyInt(), isNull()))
 				.thenReturn(List.of(bookingDtoOutgoing));
 
 		mvc.perform(get("/bookings")
@@ -143,7 +189,7 @@ public class BookingControllerTest {
 
 	@Test
 	public void shouldGetOwnerBookings() throws Exception {
-		when(bookingService.getYourBooking(anyLong(), anyString(), anyInt(), anyInt()))
+		when(bookingService.getYourBooking(anyLong(), anyString(), anyInt(), anyInt(), isNull()))
 				.thenReturn(List.of(bookingDtoOutgoing));
 
 		mvc.perform(get("/bookings/owner")
@@ -159,4 +205,23 @@ public class BookingControllerTest {
 				.andExpect(jsonPath("$.[0].item.id").value(bookingDtoOutgoing.getItem().getId()))
 				.andExpect(jsonPath("$.[0].booker.id").value(bookingDtoOutgoing.getBooker().getId()));
 	}
-}
\ No newline at end of file
+
+	@SneakyThrows
+	@Test
+	public void shouldReturnNextCursorWhenBookingPageIsFull() {
+		String cursor = PageCursor.encode(bookingDtoOutgoing.getStart().plusDays(1), 5L);
+		when(bookingService.getBooking(anyLong(), anyString(), anyInt(), anyInt(), eq(cursor)))
+				.thenReturn(List.of(bookingDtoOutgoing));
+
+		mvc.perform(get("/bookings")
+						.header("X-Sharer-User-Id", 1)
+						.param("size", "1")
+						.param("cursor", cursor)
+						.characterEncoding(StandardCharsets.UTF_8)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.size()").value(1))
+				.andExpect(header().string(PageCursor.NEXT_CURSOR_HEADER,
+						PageCursor.encode(bookingDtoOutgoing.getStart(), bookingDtoOutgoing.getId())));
+	}
+}
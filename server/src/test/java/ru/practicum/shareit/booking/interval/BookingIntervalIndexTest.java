@@ -0,0 +1,64 @@
+package ru.practicum.shareit.booking.interval;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.booking.repisitory.BookingRepository;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BookingIntervalIndexTest {
+	private final User owner = new User(1L, "Ваня", "Van@mail.ru");
+	private final Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
+	private final LocalDateTime now = LocalDateTime.now();
+
+	@Mock
+	private BookingRepository bookingRepository;
+	@InjectMocks
+	private BookingIntervalIndex bookingIntervalIndex;
+
+	@Test
+	void build_whenBookingAddedBefore_thenKeepIt() {
+		Booking stored = booking(1L, now.plusDays(1), now.plusDays(2));
+		Booking added = booking(2L, now.plusDays(3), now.plusDays(4));
+		when(bookingRepository.findByEndAfterAndStatusIn(any(LocalDateTime.class),
+				eq(BookingIntervalIndex.ACTIVE_STATUSES), any(Pageable.class)))
+				.thenReturn(new SliceImpl<>(List.of(stored)));
+
+		bookingIntervalIndex.add(added);
+		bookingIntervalIndex.build();
+
+		assertEquals(2, bookingIntervalIndex.getIntervals(item.getId(), now, now.plusDays(5)).size());
+	}
+
+	@Test
+	void add_whenItemHasEndedBookings_thenDropThem() {
+		Booking ended = booking(1L, now.minusDays(2), now.minusDays(1));
+		Booking future = booking(2L, now.plusDays(1), now.plusDays(2));
+
+		bookingIntervalIndex.add(ended);
+		bookingIntervalIndex.add(future);
+
+		assertEquals(List.of(new Interval(2L, future.getStart(), future.getEnd())),
+				bookingIntervalIndex.getIntervals(item.getId(), now.minusDays(3), now.plusDays(3)));
+	}
+
+	private Booking booking(Long id, LocalDateTime start, LocalDateTime end) {
+		return new Booking(id, start, end, item, new User(2L, "Ваня2", "Van2@mail.ru"), Status.WAITING);
+	}
+}
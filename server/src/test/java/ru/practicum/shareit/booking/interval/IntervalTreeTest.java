@@ -0,0 +1,84 @@
+package ru.practicum.shareit.booking.interval;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IntervalTreeTest {
+	private final LocalDateTime base = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+	@Test
+	void overlaps_whenIntervalsTouch_thenNoOverlap() {
+		IntervalTree tree = new IntervalTree();
+		tree.insert(new Interval(1L, base, base.plusHours(2)));
+
+		assertFalse(tree.overlaps(base.plusHours(2), base.plusHours(3)));
+		assertFalse(tree.overlaps(base.minusHours(1), base));
+		assertTrue(tree.overlaps(base.plusHours(1), base.plusHours(3)));
+	}
+
+	@Test
+	void remove_whenIntervalRemoved_thenNoOverlap() {
+		IntervalTree tree = new IntervalTree();
+		Interval interval = new Interval(1L, base, base.plusHours(2));
+		tree.insert(interval);
+
+		assertTrue(tree.remove(interval));
+		assertFalse(tree.remove(interval));
+		assertEquals(0, tree.size());
+		assertFalse(tree.overlaps(base, base.plusHours(2)));
+	}
+
+	@Test
+	void removeEndedBy_whenIntervalsEnded_thenOnlyActiveRemain() {
+		IntervalTree tree = new IntervalTree();
+		Interval ended = new Interval(1L, base, base.plusHours(2));
+		Interval endsNow = new Interval(2L, base.plusHours(1), base.plusHours(3));
+		Interval current = new Interval(3L, base.plusHours(2), base.plusHours(5));
+		Interval future = new Interval(4L, base.plusHours(6), base.plusHours(8));
+		tree.insert(future);
+		tree.insert(current);
+		tree.insert(ended);
+		tree.insert(endsNow);
+
+		assertEquals(2, tree.removeEndedBy(base.plusHours(3)));
+		assertEquals(2, tree.size());
+		assertEquals(List.of(current, future), tree.overlapping(base, base.plusHours(10)));
+	}
+
+	@Test
+	void overlapping_whenRandomIntervals_thenMatchesBruteForce() {
+		Random random = new Random(42);
+		IntervalTree tree = new IntervalTree();
+		List<Interval> intervals = new ArrayList<>();
+		for (long id = 1; id <= 500; id++) {
+			LocalDateTime start = base.plusHours(random.nextInt(5000));
+			Interval interval = new Interval(id, start, start.plusHours(1 + random.nextInt(48)));
+			intervals.add(interval);
+			tree.insert(interval);
+		}
+		for (int i = 0; i < 200; i++) {
+			Interval removed = intervals.remove(random.nextInt(intervals.size()));
+			assertTrue(tree.remove(removed));
+		}
+		assertEquals(intervals.size(), tree.size());
+		for (int i = 0; i < 500; i++) {
+			LocalDateTime start = base.plusHours(random.nextInt(5000));
+			LocalDateTime end = start.plusHours(1 + random.nextInt(48));
+			List<Interval> expected = intervals.stream()
+					.filter(interval -> interval.overlaps(start, end))
+					.sorted(Comparator.naturalOrder())
+					.collect(Collectors.toList());
+
+			assertEquals(expected, tree.overlapping(start, end));
+			assertEquals(!expected.isEmpty(), tree.overlaps(start, end));
+		}
+	}
+}
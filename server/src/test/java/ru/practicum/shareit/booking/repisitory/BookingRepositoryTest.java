@@ -0,0 +1,127 @@
+package ru.practicum.shareit.booking.repisitory;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
+import ru.practicum.shareit.booking.model.Status;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+@DataJpaTest
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+public class BookingRepositoryTest {
+	private final BookingRepository bookingRepository;
+	private final EntityManager em;
+	private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+	private User owner;
+	private User booker;
+	private Booking past;
+	private Booking current;
+	private Booking future;
+	private Booking rejected;
+
+	@BeforeEach
+	public void setUp() {
+		owner = new User(null, "owner", "owner@email.com");
+		booker = new User(null, "booker", "booker@email.com");
+		em.persist(owner);
+		em.persist(booker);
+		Item item = new Item(null, "item", "description", true, owner, null);
+		em.persist(item);
+		past = persist(now.minusDays(3), now.minusDays(2), item, Status.APPROVED);
+		current = persist(now.minusDays(1), now.plusDays(1), item, Status.APPROVED);
+		future = persist(now.plusDays(2), now.plusDays(3), item, Status.WAITING);
+		rejected = persist(now.plusDays(4), now.plusDays(5), item, Status.REJECTED);
+		em.flush();
+		em.clear();
+	}
+
+	@Test
+	public void shouldFindBookerBookingsByState() {
+		assertThat(bookerBookings(BookingState.ALL), equalTo(List.of(rejected.getId(), future.getId(),
+				current.getId(), past.getId())));
+		assertThat(bookerBookings(BookingState.PAST), equalTo(List.of(past.getId())));
+		assertThat(bookerBookings(BookingState.CURRENT), equalTo(List.of(current.getId())));
+		assertThat(bookerBookings(BookingState.FUTURE), equalTo(List.of(rejected.getId(), future.getId())));
+		assertThat(bookerBookings(BookingState.WAITING), equalTo(List.of(future.getId())));
+		assertThat(bookerBookings(BookingState.REJECTED), equalTo(List.of(rejected.getId())));
+	}
+
+	@Test
+	public void shouldFindOwnerBookingsProjectedWithItemAndBooker() {
+		List<BookingView> bookings = bookingRepository.findOwnerBookings(owner.getId(), BookingState.ALL, now, 2, 2);
+
+		assertThat(bookings.stream().map(BookingView::getId).collect(Collectors.toList()),
+				equalTo(List.of(current.getId(), past.getId())));
+		assertThat(bookings.get(0).getItemName(), equalTo("item"));
+		assertThat(bookings.get(0).getItemAvailable(), equalTo(true));
+		assertThat(bookings.get(0).getBookerId(), equalTo(booker.getId()));
+		assertThat(bookings.get(0).getBookerEmail(), equalTo("booker@email.com"));
+		assertThat(bookings.get(0).getStatus(), equalTo(Status.APPROVED));
+		assertThat(bookingRepository.findOwnerBookings(booker.getId(), BookingState.ALL, now, 0, 10).size(), equalTo(0));
+	}
+
+	@Test
+	public void shouldSeekBookerBookingsAfterCursorPosition() {
+		Booking sameStart = persist(future.getStart(), future.getEnd().plusHours(1), future.getItem(), Status.WAITING);
+		em.flush();
+
+		List<Long> firstPage = bookingRepository.findBookerBookingsAfter(booker.getId(), BookingState.ALL, now,
+				rejected.getStart(), rejected.getId(), 2).stream()
+				.map(BookingView::getId)
+				.collect(Collectors.toList());
+		List<Long> secondPage = bookingRepository.findBookerBookingsAfter(booker.getId(), BookingState.ALL, now,
+				future.getStart(), future.getId(), 2).stream()
+				.map(BookingView::getId)
+				.collect(Collectors.toList());
+
+		assertThat(firstPage, equalTo(List.of(sameStart.getId(), future.getId())));
+		assertThat(secondPage, equalTo(List.of(current.getId(), past.getId())));
+	}
+
+	@Test
+	public void shouldFindBookingByIdAndDenormalisedOwnerId() {
+		assertThat(bookingRepository.findById(past.getId()).orElseThrow().getOwnerId(), equalTo(owner.getId()));
+		assertThat(bookingRepository.findByIdAndOwnerId(past.getId(), owner.getId()).isPresent(), equalTo(true));
+		assertThat(bookingRepository.findByIdAndOwnerId(past.getId(), booker.getId()).isPresent(), equalTo(false));
+	}
+
+	@Test
+	public void shouldUpdateOnlyOwnWaitingBookings() {
+		List<Long> ids = List.of(future.getId(), rejected.getId());
+
+		assertThat(bookingRepository.updateWaitingStatus(ids, booker.getId(), Status.APPROVED), equalTo(0));
+		assertThat(bookingRepository.updateWaitingStatus(ids, owner.getId(), Status.APPROVED), equalTo(1));
+		assertThat(bookingRepository.updateWaitingStatus(ids, owner.getId(), Status.REJECTED), equalTo(0));
+		assertThat(bookingRepository.findById(future.getId()).orElseThrow().getStatus(), equalTo(Status.APPROVED));
+		assertThat(bookingRepository.findById(rejected.getId()).orElseThrow().getStatus(), equalTo(Status.REJECTED));
+		assertThat(bookingRepository.findByIdInAndOwnerId(ids, owner.getId()).size(), equalTo(2));
+		assertThat(bookingRepository.findByIdInAndOwnerId(ids, booker.getId()).size(), equalTo(0));
+	}
+
+	private List<Long> bookerBookings(BookingState state) {
+		return bookingRepository.findBookerBookings(booker.getId(), state, now, 0, 10).stream()
+				.map(BookingView::getId)
+				.collect(Collectors.toList());
+	}
+
+	private Booking persist(LocalDateTime start, LocalDateTime end, Item item, Status status) {
+		Booking booking = new Booking(null, start, end, item, booker, status);
+		em.persist(booking);
+		return booking;
+	}
+}
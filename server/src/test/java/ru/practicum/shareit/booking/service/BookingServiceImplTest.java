@@ -5,19 +5,24 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingBatchResultDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingDtoFull;
+import ru.practicum.shareit.booking.dto.BookingStatusUpdateDto;
+import ru.practicum.shareit.booking.dto.BookingView;
+import ru.practicum.shareit.booking.interval.BookingIntervalIndex;
 import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingState;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repisitory.BookingRepository;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.UserMapper;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserCache;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
@@ -25,11 +30,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,9 +47,11 @@ class BookingServiceImplTest {
 	@Mock
 	private BookingRepository bookingRepository;
 	@Mock
-	private UserRepository userRepository;
+	private UserCache userCache;
 	@Mock
 	private ItemRepository itemRepository;
+	@Mock
+	private BookingIntervalIndex bookingIntervalIndex;
 	@InjectMocks
 	private BookingServiceImpl bookingService;
 
@@ -49,18 +61,20 @@ class BookingServiceImplTest {
 		User owner = new User(2L, "Ваня2", "Van2@mail.ru");
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии",
 				true, owner, null);
-		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
-				LocalDateTime.of(2023, 12, 6, 12, 12), item.getId(), null, null);
+		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.now().plusDays(1).withNano(0),
+				LocalDateTime.now().plusDays(6).withNano(0), item.getId(), null, null);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(itemRepository.findById(bookingDto.getItemId())).thenReturn(Optional.of(item));
 		when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+		when(bookingIntervalIndex.getLock(item.getId())).thenReturn(new ReentrantLock());
 
 		BookingDtoFull result = bookingService.create(user.getId(), bookingDto);
 
 		verify(itemRepository, times(1)).findById(item.getId());
-		verify(userRepository, times(1)).findById(user.getId());
+		verify(userCache, times(1)).find(user.getId());
 		verify(bookingRepository, times(1)).save(any(Booking.class));
+		verify(bookingIntervalIndex, times(1)).add(any(Booking.class));
 		assertThat(result)
 				.hasFieldOrPropertyWithValue("id", 1L)
 				.hasFieldOrPropertyWithValue("start", bookingDto.getStart())
@@ -70,6 +84,66 @@ class BookingServiceImplTest {
 				.hasFieldOrPropertyWithValue("status", Status.WAITING);
 	}
 
+	@Test
+	void create_whenBookingOverlaps_thenReturnBookingOverlapException() {
+		User user = new User(1L, "Ваня", "Van@mail.ru");
+		User owner = new User(2L, "Ваня2", "Van2@mail.ru");
+		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
+		BookingDto bookingDto = new BookingDto(null, LocalDateTime.now().plusDays(1),
+				LocalDateTime.now().plusDays(6), item.getId(), null, null);
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
+		when(itemRepository.findById(bookingDto.getItemId())).thenReturn(Optional.of(item));
+		when(bookingIntervalIndex.getLock(item.getId())).thenReturn(new ReentrantLock());
+		when(bookingIntervalIndex.hasOverlap(item.getId(), bookingDto.getStart(), bookingDto.getEnd())).thenReturn(true);
+
+		assertThrows(BookingOverlapException.class, () -> bookingService.create(user.getId(), bookingDto));
+		verify(bookingRepository, never()).save(any(Booking.class));
+	}
+
+	@Test
+	void create_whenConcurrentOverlappingBookings_thenOnlyOneCreated() throws Exception {
+		User owner = new User(2L, "Ваня2", "Van2@mail.ru");
+		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
+		LocalDateTime start = LocalDateTime.now().plusDays(1);
+		AtomicLong ids = new AtomicLong();
+		when(userCache.find(anyLong()))
+				.thenAnswer(invocation -> Optional.of(new User(invocation.getArgument(0), "Ваня", "Van@mail.ru")));
+		when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
+		when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+			Booking booking = invocation.getArgument(0);
+			booking.setId(ids.incrementAndGet());
+			return booking;
+		});
+		BookingServiceImpl service = new BookingServiceImpl(bookingRepository, userCache, itemRepository,
+				new BookingIntervalIndex(bookingRepository));
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch ready = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+		for (long userId = 10; userId < 10 + threads; userId++) {
+			long bookerId = userId;
+			results.add(executor.submit(() -> {
+				ready.await();
+				try {
+					service.create(bookerId, new BookingDto(null, start.plusHours(bookerId), start.plusDays(2),
+							item.getId(), null, null));
+					return true;
+				} catch (BookingOverlapException e) {
+					return false;
+				}
+			}));
+		}
+		ready.countDown();
+		int created = 0;
+		for (Future<Boolean> result : results) {
+			if (result.get(10, TimeUnit.SECONDS)) created++;
+		}
+		executor.shutdown();
+
+		assertEquals(1, created);
+		verify(bookingRepository, times(1)).save(any(Booking.class));
+	}
+
 	@Test
 	void create_whenItemUnavailable_thenReturnItemUnavailableException() {
 		User user = new User(1L, "Ваня", "Van@mail.ru");
@@ -78,7 +152,7 @@ class BookingServiceImplTest {
 				false, owner, null);
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2023, 12, 6, 12, 12), item.getId(), null, null);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(itemRepository.findById(bookingDto.getItemId())).thenReturn(Optional.of(item));
 
 		assertThrows(ItemUnavailableException.class, () -> bookingService.create(user.getId(), bookingDto));
@@ -117,7 +191,7 @@ class BookingServiceImplTest {
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2023, 12, 6, 12, 12), item.getId(), null, null);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.empty());
+		when(userCache.find(user.getId())).thenReturn(Optional.empty());
 
 		verify(bookingRepository, never()).save(any(Booking.class));
 		assertThrows(UserNotFoundException.class, () -> bookingService.create(user.getId(), bookingDto));
@@ -130,7 +204,7 @@ class BookingServiceImplTest {
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2023, 12, 6, 12, 12), item.getId(), null, null);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(itemRepository.findById(bookingDto.getItemId())).thenReturn(Optional.empty());
 
 		verify(bookingRepository, never()).save(any(Booking.class));
@@ -143,7 +217,7 @@ class BookingServiceImplTest {
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, user, null);
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2023, 12, 6, 12, 12), item.getId(), null, null);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(itemRepository.findById(bookingDto.getItemId())).thenReturn(Optional.of(item));
 
 		verify(bookingRepository, never()).save(any(Booking.class));
@@ -157,7 +231,7 @@ class BookingServiceImplTest {
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 6, 12, 12),
 				LocalDateTime.of(2023, 12, 1, 12, 12), item.getId(), null, null);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(itemRepository.findById(bookingDto.getItemId())).thenReturn(Optional.of(item));
 
 		verify(bookingRepository, never()).save(any(Booking.class));
@@ -171,7 +245,7 @@ class BookingServiceImplTest {
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2022, 12, 1, 12, 12),
 				LocalDateTime.of(2023, 12, 6, 12, 12), item.getId(), null, null);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(itemRepository.findById(bookingDto.getItemId())).thenReturn(Optional.of(item));
 
 		verify(bookingRepository, never()).save(any(Booking.class));
@@ -185,7 +259,7 @@ class BookingServiceImplTest {
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), null, null);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(itemRepository.findById(bookingDto.getItemId())).thenReturn(Optional.of(item));
 
 		verify(bookingRepository, never()).save(any(Booking.class));
@@ -200,14 +274,17 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.WAITING);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(bookingRepository.findByIdAndItemOwnerId(bookingDto.getId(), user.getId()))
+		when(bookingRepository.findByIdAndOwnerId(bookingDto.getId(), user.getId()))
 				.thenReturn(Optional.of(booking));
-		when(bookingRepository.save(booking)).thenReturn(booking);
+		when(bookingRepository.updateWaitingStatus(List.of(bookingDto.getId()), user.getId(), Status.APPROVED))
+				.thenReturn(1);
 
 		BookingDtoFull result = bookingService.updateBookingStatus(user.getId(), bookingDto.getId(), true);
 
-		verify(bookingRepository, times(1)).findByIdAndItemOwnerId(bookingDto.getId(), user.getId());
-		verify(bookingRepository, times(1)).save(any(Booking.class));
+		verify(bookingRepository, times(1)).findByIdAndOwnerId(bookingDto.getId(), user.getId());
+		verify(bookingRepository, times(1)).updateWaitingStatus(List.of(bookingDto.getId()), user.getId(),
+				Status.APPROVED);
+		verify(bookingRepository, never()).save(any(Booking.class));
 		assertThat(result)
 				.hasFieldOrPropertyWithValue("id", 1L)
 				.hasFieldOrPropertyWithValue("start", bookingDto.getStart())
@@ -217,6 +294,24 @@ class BookingServiceImplTest {
 				.hasFieldOrPropertyWithValue("status", Status.APPROVED);
 	}
 
+	@Test
+	void updateBookingStatus_whenStatusChangedConcurrently_thenReturnBookingStatusConflictException() {
+		User user = new User(1L, "Ваня", "Van@mail.ru");
+		User owner = new User(2L, "Ваня2", "Van2@mail.ru");
+		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
+		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
+				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.WAITING);
+		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
+		when(bookingRepository.findByIdAndOwnerId(bookingDto.getId(), user.getId()))
+				.thenReturn(Optional.of(booking));
+		when(bookingRepository.updateWaitingStatus(List.of(bookingDto.getId()), user.getId(), Status.REJECTED))
+				.thenReturn(0);
+
+		assertThrows(BookingStatusConflictException.class,
+				() -> bookingService.updateBookingStatus(user.getId(), bookingDto.getId(), false));
+		verify(bookingIntervalIndex, never()).remove(any(Booking.class));
+	}
+
 	@Test
 	void updateBookingStatus_whenBookingNotFound_thenReturnBookingNotFoundException() {
 		User user = new User(1L, "Ваня", "Van@mail.ru");
@@ -224,7 +319,7 @@ class BookingServiceImplTest {
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии", null, owner, null);
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.WAITING);
-		when(bookingRepository.findByIdAndItemOwnerId(bookingDto.getId(), user.getId()))
+		when(bookingRepository.findByIdAndOwnerId(bookingDto.getId(), user.getId()))
 				.thenReturn(Optional.empty());
 
 		assertThrows(BookingNotFoundException.class, () -> bookingService.updateBookingStatus(user.getId(), bookingDto.getId(), false));
@@ -239,13 +334,68 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(bookingRepository.findByIdAndItemOwnerId(bookingDto.getId(), user.getId()))
+		when(bookingRepository.findByIdAndOwnerId(bookingDto.getId(), user.getId()))
 				.thenReturn(Optional.of(booking));
 
 		assertThrows(BookingStatusException.class, () -> bookingService.updateBookingStatus(user.getId(), bookingDto.getId(), true));
 		verify(bookingRepository, never()).save(any(Booking.class));
 	}
 
+	@Test
+	void updateBookingStatuses_whenMixedBatch_thenUpdateWaitingAndReportPerBooking() {
+		User owner = new User(1L, "Ваня", "Van@mail.ru");
+		User booker = new User(2L, "Ваня2", "Van2@mail.ru");
+		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
+		LocalDateTime start = LocalDateTime.of(2030, 12, 1, 12, 12);
+		Booking approved = new Booking(1L, start, start.plusDays(1), item, booker, Status.WAITING);
+		Booking rejected = new Booking(2L, start, start.plusDays(1), item, booker, Status.WAITING);
+		Booking alreadyApproved = new Booking(3L, start, start.plusDays(1), item, booker, Status.APPROVED);
+		when(bookingRepository.findByIdInAndOwnerId(any(), eq(owner.getId())))
+				.thenReturn(List.of(approved, rejected, alreadyApproved));
+		when(bookingRepository.updateWaitingStatus(List.of(1L), owner.getId(), Status.APPROVED)).thenReturn(1);
+		when(bookingRepository.updateWaitingStatus(List.of(2L), owner.getId(), Status.REJECTED)).thenReturn(1);
+
+		List<BookingBatchResultDto> result = bookingService.updateBookingStatuses(owner.getId(), List.of(
+				new BookingStatusUpdateDto(1L, true),
+				new BookingStatusUpdateDto(2L, false),
+				new BookingStatusUpdateDto(3L, true),
+				new BookingStatusUpdateDto(4L, true),
+				new BookingStatusUpdateDto(1L, false),
+				new BookingStatusUpdateDto(null, true)));
+
+		assertThat(result).extracting(BookingBatchResultDto::getStatus)
+				.containsExactly(200, 200, 400, 404, 400, 400);
+		assertEquals(Status.APPROVED, result.get(0).getBooking().getStatus());
+		assertEquals(Status.REJECTED, result.get(1).getBooking().getStatus());
+		assertEquals("Статус бронирования не является 'WAITING'", result.get(2).getError());
+		verify(bookingRepository, never()).save(any(Booking.class));
+		verify(bookingRepository, never()).findAllById(any());
+		verify(bookingIntervalIndex, times(1)).remove(rejected);
+	}
+
+	@Test
+	void updateBookingStatuses_whenBookingChangedConcurrently_thenReportConflict() {
+		User owner = new User(1L, "Ваня", "Van@mail.ru");
+		User booker = new User(2L, "Ваня2", "Van2@mail.ru");
+		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
+		LocalDateTime start = LocalDateTime.of(2030, 12, 1, 12, 12);
+		Booking first = new Booking(1L, start, start.plusDays(1), item, booker, Status.WAITING);
+		Booking second = new Booking(2L, start, start.plusDays(1), item, booker, Status.WAITING);
+		when(bookingRepository.findByIdInAndOwnerId(any(), eq(owner.getId()))).thenReturn(List.of(first, second));
+		when(bookingRepository.updateWaitingStatus(List.of(1L, 2L), owner.getId(), Status.APPROVED)).thenReturn(1);
+		when(bookingRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(
+				new Booking(1L, start, start.plusDays(1), item, booker, Status.APPROVED),
+				new Booking(2L, start, start.plusDays(1), item, booker, Status.REJECTED)));
+
+		List<BookingBatchResultDto> result = bookingService.updateBookingStatuses(owner.getId(), List.of(
+				new BookingStatusUpdateDto(1L, true),
+				new BookingStatusUpdateDto(2L, true)));
+
+		assertThat(result).extracting(BookingBatchResultDto::getStatus).containsExactly(200, 409);
+		assertEquals(2L, result.get(1).getBookingId());
+		assertNull(result.get(1).getBooking());
+	}
+
 	@Test
 	void getBookingInformation_whenBookingInformationFoundUser_thenReturnBooking() {
 		User user = new User(1L, "Ваня", "Van@mail.ru");
@@ -254,13 +404,13 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(bookingRepository.findById(bookingDto.getId())).thenReturn(Optional.of(booking));
 
 		BookingDtoFull result = bookingService.getBookingInformation(user.getId(), bookingDto.getId());
 
 		verify(bookingRepository, times(1)).findById(anyLong());
-		verify(userRepository, times(1)).findById(anyLong());
+		verify(userCache, times(1)).find(anyLong());
 		assertThat(result)
 				.hasFieldOrPropertyWithValue("id", 1L)
 				.hasFieldOrPropertyWithValue("start", bookingDto.getStart())
@@ -278,13 +428,13 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(userRepository.findById(owner.getId())).thenReturn(Optional.of(owner));
+		when(userCache.find(owner.getId())).thenReturn(Optional.of(owner));
 		when(bookingRepository.findById(bookingDto.getId())).thenReturn(Optional.of(booking));
 
 		BookingDtoFull result = bookingService.getBookingInformation(owner.getId(), bookingDto.getId());
 
 		verify(bookingRepository, times(1)).findById(anyLong());
-		verify(userRepository, times(1)).findById(anyLong());
+		verify(userCache, times(1)).find(anyLong());
 		assertThat(result)
 				.hasFieldOrPropertyWithValue("id", 1L)
 				.hasFieldOrPropertyWithValue("start", bookingDto.getStart())
@@ -303,7 +453,7 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(userRepository.findById(anotherUser.getId())).thenReturn(Optional.of(anotherUser));
+		when(userCache.find(anotherUser.getId())).thenReturn(Optional.of(anotherUser));
 		when(bookingRepository.findById(bookingDto.getId())).thenReturn(Optional.of(booking));
 
 		assertThrows(BookingNotFoundException.class, () -> bookingService.getBookingInformation(anotherUser.getId(), bookingDto.getId()));
@@ -317,11 +467,11 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-		when(bookingRepository.findByBookerIdAndStartAfterOrderByStartDesc(anyLong(), any(LocalDateTime.class),
-				any(Pageable.class))).thenReturn(List.of(booking));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
+		when(bookingRepository.findBookerBookings(anyLong(), eq(BookingState.FUTURE), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "FUTURE", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "FUTURE", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
@@ -335,11 +485,11 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-		when(bookingRepository.findByBookerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(LocalDateTime.class),
-				any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(booking));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
+		when(bookingRepository.findBookerBookings(anyLong(), eq(BookingState.CURRENT), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "CURRENT", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "CURRENT", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
@@ -353,11 +503,11 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-		when(bookingRepository.findByBookerIdAndStatusOrderByStartDesc(anyLong(), any(Status.class), any(Pageable.class)))
-				.thenReturn(List.of(booking));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
+		when(bookingRepository.findBookerBookings(anyLong(), eq(BookingState.WAITING), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "WAITING", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "WAITING", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
@@ -371,11 +521,11 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-		when(bookingRepository.findByBookerIdAndEndBeforeOrderByStartDesc(anyLong(), any(LocalDateTime.class),
-				any(Pageable.class))).thenReturn(List.of(booking));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
+		when(bookingRepository.findBookerBookings(anyLong(), eq(BookingState.PAST), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "PAST", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "PAST", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
@@ -389,11 +539,11 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-		when(bookingRepository.findByBookerIdAndStatusOrderByStartDesc(anyLong(), any(Status.class), any(Pageable.class)))
-				.thenReturn(List.of(booking));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
+		when(bookingRepository.findBookerBookings(anyLong(), eq(BookingState.REJECTED), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "REJECTED", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "REJECTED", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
@@ -407,11 +557,11 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-		when(bookingRepository.findByBookerIdOrderByStartDesc(anyLong(), any(Pageable.class)))
-				.thenReturn(List.of(booking));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
+		when(bookingRepository.findBookerBookings(anyLong(), eq(BookingState.ALL), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "ALL", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "ALL", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
@@ -424,9 +574,9 @@ class BookingServiceImplTest {
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 
-		assertThrows(BookingStateException.class, () -> bookingService.getBooking(user.getId(), "bad", 0, 2));
+		assertThrows(BookingStateException.class, () -> bookingService.getBooking(user.getId(), "bad", 0, 2, null));
 	}
 
 	@Test
@@ -437,10 +587,10 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(bookingRepository.findByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(LocalDateTime.class),
-				any(Pageable.class))).thenReturn(List.of(booking));
+		when(bookingRepository.findOwnerBookings(anyLong(), eq(BookingState.FUTURE), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "FUTURE", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "FUTURE", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
@@ -454,10 +604,10 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(bookingRepository.findByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(anyLong(), any(LocalDateTime.class),
-				any(LocalDateTime.class), any(Pageable.class))).thenReturn(List.of(booking));
+		when(bookingRepository.findOwnerBookings(anyLong(), eq(BookingState.CURRENT), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "CURRENT", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "CURRENT", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
@@ -471,10 +621,10 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(bookingRepository.findByItemOwnerIdAndEndBeforeOrderByStartDesc(anyLong(), any(LocalDateTime.class),
-				any(Pageable.class))).thenReturn(List.of(booking));
+		when(bookingRepository.findOwnerBookings(anyLong(), eq(BookingState.PAST), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "PAST", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "PAST", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
@@ -488,10 +638,10 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(bookingRepository.findByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(Status.class),
-				any(Pageable.class))).thenReturn(List.of(booking));
+		when(bookingRepository.findOwnerBookings(anyLong(), eq(BookingState.WAITING), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "WAITING", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "WAITING", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
@@ -505,10 +655,10 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(bookingRepository.findByItemOwnerIdAndStatusOrderByStartDesc(anyLong(), any(Status.class),
-				any(Pageable.class))).thenReturn(List.of(booking));
+		when(bookingRepository.findOwnerBookings(anyLong(), eq(BookingState.REJECTED), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "REJECTED", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "REJECTED", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
@@ -522,26 +672,80 @@ class BookingServiceImplTest {
 		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
 				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
 		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(bookingRepository.findByItemOwnerIdOrderByStartDesc(anyLong(),
-				any(Pageable.class))).thenReturn(List.of(booking));
+		when(bookingRepository.findOwnerBookings(anyLong(), eq(BookingState.ALL), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(List.of(toView(booking)));
 
-		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "ALL", 0, 2);
+		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "ALL", 0, 2, null);
 
 		assertEquals(result.size(), 1);
 		assertTrue(result.contains(BookingMapper.toBookingDtoFull(booking)));
 	}
 
 	@Test
-	void getYourBooking_whenBookingInformationNotFound_thenReturnRuntimeException() {
+	void getYourBooking_whenBookingInformationNotFound_thenReturnEmptyList() {
+		User user = new User(1L, "Ваня", "Van@mail.ru");
+		when(bookingRepository.findOwnerBookings(anyLong(), eq(BookingState.FUTURE), any(LocalDateTime.class),
+				anyInt(), anyInt())).thenReturn(new ArrayList<>());
+
+		Collection<BookingDtoFull> result = bookingService.getYourBooking(user.getId(), "FUTURE", 0, 2, null);
+
+		assertTrue(result.isEmpty());
+	}
+
+	@Test
+	void getYourBooking_whenFromNotMultipleOfSize_thenPassOffsetAsIs() {
+		User user = new User(1L, "Ваня", "Van@mail.ru");
+		when(bookingRepository.findOwnerBookings(eq(user.getId()), eq(BookingState.ALL), any(LocalDateTime.class),
+				eq(3), eq(2))).thenReturn(new ArrayList<>());
+
+		bookingService.getYourBooking(user.getId(), "ALL", 3, 2, null);
+
+		verify(bookingRepository).findOwnerBookings(eq(user.getId()), eq(BookingState.ALL),
+				any(LocalDateTime.class), eq(3), eq(2));
+	}
+
+	@Test
+	void getBooking_whenCursorPresent_thenSeekAfterCursorPosition() {
 		User user = new User(1L, "Ваня", "Van@mail.ru");
 		User owner = new User(2L, "Ваня2", "Van2@mail.ru");
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
-		BookingDto bookingDto = new BookingDto(1L, LocalDateTime.of(2023, 12, 1, 12, 12),
-				LocalDateTime.of(2022, 12, 6, 12, 12), item.getId(), user.getId(), Status.APPROVED);
-		Booking booking = BookingMapper.toBooking(bookingDto, user, item);
-		when(bookingRepository.findByItemOwnerIdAndStartAfterOrderByStartDesc(anyLong(), any(LocalDateTime.class),
-				any(Pageable.class))).thenReturn(new ArrayList<>());
+		Booking booking = new Booking(3L, LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1), item,
+				user, Status.APPROVED);
+		LocalDateTime start = LocalDateTime.of(2030, 1, 1, 12, 0);
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
+		when(bookingRepository.findBookerBookingsAfter(eq(user.getId()), eq(BookingState.ALL),
+				any(LocalDateTime.class), eq(start), eq(4L), eq(2))).thenReturn(List.of(toView(booking)));
+
+		Collection<BookingDtoFull> result = bookingService.getBooking(user.getId(), "ALL", 0, 2,
+				PageCursor.encode(start, 4L));
+
+		assertThat(result).containsExactly(BookingMapper.toBookingDtoFull(booking));
+		verify(bookingRepository, never()).findBookerBookings(anyLong(), any(), any(), anyInt(), anyInt());
+	}
+
+	@Test
+	void getYourBooking_whenCursorPastLastPage_thenReturnEmptyList() {
+		when(bookingRepository.findOwnerBookingsAfter(anyLong(), eq(BookingState.ALL), any(LocalDateTime.class),
+				any(LocalDateTime.class), anyLong(), anyInt())).thenReturn(List.of());
+
+		Collection<BookingDtoFull> result = bookingService.getYourBooking(2L, "ALL", 0, 2,
+				PageCursor.encode(LocalDateTime.now(), 1L));
+
+		assertThat(result).isEmpty();
+	}
+
+	@Test
+	void getBooking_whenCursorNotValid_thenThrowCursorNotValidException() {
+		when(userCache.find(1L)).thenReturn(Optional.of(new User(1L, "Ваня", "Van@mail.ru")));
+
+		assertThrows(CursorNotValidException.class, () -> bookingService.getBooking(1L, "ALL", 0, 2,
+				PageCursor.encode("вчера", 1L)));
+	}
 
-		assertThrows(RuntimeException.class, () -> bookingService.getYourBooking(user.getId(), "FUTURE", 0, 2));
+	private BookingView toView(Booking booking) {
+		return new BookingView(booking.getId(), booking.getStart(), booking.getEnd(), booking.getStatus(),
+				booking.getItem().getId(), booking.getItem().getName(), booking.getItem().getDescription(),
+				booking.getItem().getAvailable(), booking.getItem().getRequestId(), booking.getBooker().getId(),
+				booking.getBooker().getName(), booking.getBooker().getEmail());
 	}
-}
\ No newline at end of file
+}
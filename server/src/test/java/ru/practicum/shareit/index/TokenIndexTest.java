@@ -0,0 +1,56 @@
+package ru.practicum.shareit.index;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenIndexTest {
+	@Test
+	void put_whenDocumentReplaced_thenOldTokensDropped() {
+		TokenIndex<Set<String>> index = new TokenIndex<>(Function.identity());
+		index.put(1L, Set.of("дрель", "ударная"));
+		index.put(2L, Set.of("дрель"));
+
+		index.put(1L, Set.of("молоток"));
+
+		assertEquals(Set.of(2L), index.find("дрель"));
+		assertEquals(Set.of(), index.find("ударная"));
+		assertEquals(Set.of(1L), index.find("молоток"));
+		assertEquals(2, index.size());
+	}
+
+	@Test
+	void remove_whenLastDocumentRemoved_thenTokenEmpty() {
+		TokenIndex<Set<String>> index = new TokenIndex<>(Function.identity());
+		index.put(1L, Set.of("дрель"));
+
+		index.remove(1L);
+		index.remove(2L);
+
+		assertEquals(Set.of(), index.find("дрель"));
+		assertFalse(index.contains(1L));
+		assertNull(index.get(1L));
+	}
+
+	@Test
+	void load_whenSeveralChunks_thenConsumeAllInOrder() {
+		List<Integer> loaded = new ArrayList<>();
+		List<Pageable> requested = new ArrayList<>();
+
+		TokenIndex.load(pageable -> {
+			requested.add(pageable);
+			return new PageImpl<>(List.of(pageable.getPageNumber()), pageable, TokenIndex.BUILD_CHUNK_SIZE + 1);
+		}, loaded::add);
+
+		assertEquals(List.of(0, 1), loaded);
+		assertEquals(TokenIndex.BUILD_CHUNK_SIZE, requested.get(0).getPageSize());
+		assertTrue(requested.get(0).getSort().getOrderFor("id").isAscending());
+	}
+}
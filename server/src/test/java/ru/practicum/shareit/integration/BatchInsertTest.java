@@ -0,0 +1,46 @@
+package ru.practicum.shareit.integration;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+@Transactional
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+		properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class BatchInsertTest {
+	private static final int USERS = 120;
+
+	private final EntityManager em;
+	private final UserRepository userRepository;
+
+	@Test
+	public void shouldInsertUsersInBatches() {
+		List<User> users = new ArrayList<>();
+		for (int i = 0; i < USERS; i++) {
+			users.add(new User(null, "user" + i, "batch" + i + "@email.com"));
+		}
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		userRepository.saveAll(users);
+		em.flush();
+
+		assertThat(statistics.getEntityInsertCount(), equalTo((long) USERS));
+		assertThat(statistics.getPrepareStatementCount(), lessThanOrEqualTo(10L));
+	}
+}
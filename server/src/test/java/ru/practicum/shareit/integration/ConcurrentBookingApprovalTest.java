@@ -0,0 +1,99 @@
+package ru.practicum.shareit.integration;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingDtoFull;
+import ru.practicum.shareit.booking.repisitory.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.exception.BookingStatusConflictException;
+import ru.practicum.shareit.exception.BookingStatusException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.anyOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+public class ConcurrentBookingApprovalTest {
+	private static final int THREADS = 8;
+	private static final int ROUNDS = 20;
+
+	private final ItemService itemService;
+	private final BookingService bookingService;
+	private final UserService userService;
+	private final BookingRepository bookingRepository;
+	private final ItemRepository itemRepository;
+	private final UserRepository userRepository;
+
+	@AfterEach
+	public void cleanUp() {
+		bookingRepository.deleteAll();
+		itemRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	public void shouldLetExactlyOneConcurrentTransitionWin() throws Exception {
+		UserDto owner = userService.create(new UserDto(null, "owner", "race-owner@email.com"));
+		UserDto booker = userService.create(new UserDto(null, "booker", "race-booker@email.com"));
+		ItemDto item = itemService.create(owner.getId(),
+				new ItemDto(null, "Дрель", "Дрель аккумуляторная", true, null, null, null, null));
+		ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+		try {
+			for (int round = 0; round < ROUNDS; round++) {
+				LocalDateTime start = LocalDateTime.now().plusDays(1 + 2L * round);
+				Long bookingId = bookingService.create(booker.getId(),
+						new BookingDto(null, start, start.plusDays(1), item.getId(), null, null)).getId();
+				CountDownLatch ready = new CountDownLatch(THREADS);
+				CountDownLatch go = new CountDownLatch(1);
+				List<Future<BookingDtoFull>> results = new ArrayList<>();
+				for (int i = 0; i < THREADS; i++) {
+					boolean approved = i % 2 == 0;
+					results.add(executor.submit(() -> {
+						ready.countDown();
+						go.await(5, TimeUnit.SECONDS);
+						return bookingService.updateBookingStatus(owner.getId(), bookingId, approved);
+					}));
+				}
+				ready.await(5, TimeUnit.SECONDS);
+				go.countDown();
+
+				List<BookingDtoFull> winners = new ArrayList<>();
+				for (Future<BookingDtoFull> result : results) {
+					try {
+						winners.add(result.get(10, TimeUnit.SECONDS));
+					} catch (ExecutionException e) {
+						assertThat(e.getCause(), anyOf(instanceOf(BookingStatusConflictException.class),
+								instanceOf(BookingStatusException.class)));
+					}
+				}
+				assertThat(winners.size(), equalTo(1));
+				assertThat(bookingRepository.findById(bookingId).orElseThrow().getStatus(),
+						equalTo(winners.get(0).getStatus()));
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
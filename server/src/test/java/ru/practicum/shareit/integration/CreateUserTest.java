@@ -12,8 +12,14 @@ import ru.practicum.shareit.user.model.User;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -47,4 +53,31 @@ public class CreateUserTest {
 				}
 		);
 	}
+
+	@Test
+	public void shouldPageUsersFromOffsetNotMultipleOfSize() {
+		for (int i = 1; i <= 5; i++) {
+			userService.create(new UserDto(null, "user" + i, "user" + i + "@email.com"));
+		}
+
+		List<String> names = userService.getUsers(1, 3, null).stream()
+				.map(UserDto::getName)
+				.collect(Collectors.toList());
+
+		assertThat(names, equalTo(List.of("user2", "user3", "user4")));
+	}
+
+	@Test
+	public void shouldExportCreatedUsers() throws IOException {
+		userService.create(userDto);
+		userService.create(new UserDto(null, "user2", "user2@email.com"));
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		userService.exportUsers(output);
+		String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+
+		assertThat(lines.length, equalTo(2));
+		assertThat(lines[0], containsString(userDto.getEmail()));
+		assertThat(lines[1], containsString("user2@email.com"));
+	}
 }
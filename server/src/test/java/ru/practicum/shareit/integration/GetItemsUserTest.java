@@ -2,19 +2,27 @@ package ru.practicum.shareit.integration;
 
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Assertions;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.exception.UserNotFoundException;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.model.Comment;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.UserCache;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
@@ -23,11 +31,13 @@ import static org.hamcrest.Matchers.*;
 
 @Transactional
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+		properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class GetItemsUserTest {
 	private final EntityManager em;
 	private final ItemService itemService;
 	private final UserService userService;
+	private final UserCache userCache;
 
 	@Test
 	public void shouldGetItemsByUserId() {
@@ -70,4 +80,40 @@ public class GetItemsUserTest {
 
 		assertThat(e.getMessage(), equalTo("Пользователь с id=1 не найден"));
 	}
+
+	@Test
+	public void shouldNotGrowQueryCountWithPageSize() {
+		User owner = new User(null, "owner", "owner@email.com");
+		User booker = new User(null, "booker", "booker@email.com");
+		em.persist(owner);
+		em.persist(booker);
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < 10; i++) {
+			Item item = new Item(null, "item" + i, "description" + i, true, owner, null);
+			em.persist(item);
+			em.persist(new Booking(null, now.minusDays(2), now.minusDays(1), item, booker, Status.APPROVED));
+			em.persist(new Booking(null, now.plusDays(1), now.plusDays(2), item, booker, Status.WAITING));
+			em.persist(new Comment(null, "comment" + i, item, booker, now));
+		}
+		em.flush();
+		userCache.find(owner.getId());
+
+		long smallPageQueries = countQueries(owner.getId(), 2);
+		long largePageQueries = countQueries(owner.getId(), 10);
+		List<ItemDto> items = (List<ItemDto>) itemService.getItemsUser(owner.getId(), 0, 10);
+
+		assertThat(largePageQueries, equalTo(smallPageQueries));
+		assertThat(items.size(), equalTo(10));
+		assertThat(items.get(0).getLastBooking(), notNullValue());
+		assertThat(items.get(0).getNextBooking(), notNullValue());
+		assertThat(items.get(0).getComments().size(), equalTo(1));
+	}
+
+	private long countQueries(Long userId, int size) {
+		em.clear();
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		itemService.getItemsUser(userId, 0, size);
+		return statistics.getPrepareStatementCount();
+	}
 }
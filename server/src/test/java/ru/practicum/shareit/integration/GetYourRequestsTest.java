@@ -1,15 +1,20 @@
 package ru.practicum.shareit.integration;
 
 import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestOutDto;
+import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.service.ItemRequestService;
+import ru.practicum.shareit.user.UserCache;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
@@ -26,11 +31,13 @@ import static org.hamcrest.Matchers.notNullValue;
 
 @Transactional
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
-@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+		properties = "spring.jpa.properties.hibernate.generate_statistics=true")
 public class GetYourRequestsTest {
 	private final EntityManager em;
 	private final ItemRequestService itemRequestService;
 	private final UserService userService;
+	private final UserCache userCache;
 
 	@Test
 	public void shouldGetItemRequestsByUserId() {
@@ -63,4 +70,36 @@ public class GetYourRequestsTest {
 
 		assertThat(e.getMessage(), equalTo("Пользователь с id: 1 не найден"));
 	}
+
+	@Test
+	public void shouldNotGrowQueryCountWithRequestsCount() {
+		User requestor = new User(null, "requestor", "requestor@email.com");
+		User owner = new User(null, "owner", "owner@email.com");
+		em.persist(requestor);
+		em.persist(owner);
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < 10; i++) {
+			ItemRequest itemRequest = new ItemRequest(null, "request" + i, requestor, now.minusMinutes(i));
+			em.persist(itemRequest);
+			em.persist(new Item(null, "item" + i, "description" + i, true, owner, itemRequest.getId()));
+		}
+		em.flush();
+		userCache.find(owner.getId());
+
+		long smallPageQueries = countQueries(owner.getId(), 2);
+		long largePageQueries = countQueries(owner.getId(), 10);
+		List<ItemRequestOutDto> itemRequests = itemRequestService.getYourRequests(requestor.getId());
+
+		assertThat(largePageQueries, equalTo(smallPageQueries));
+		assertThat(itemRequests.size(), equalTo(10));
+		assertThat(itemRequests.get(0).getItems().size(), equalTo(1));
+	}
+
+	private long countQueries(Long userId, int size) {
+		em.clear();
+		Statistics statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		itemRequestService.getAllRequests(userId, 0, size);
+		return statistics.getPrepareStatementCount();
+	}
 }
@@ -0,0 +1,73 @@
+package ru.practicum.shareit.integration;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingDtoFull;
+import ru.practicum.shareit.booking.repisitory.BookingRepository;
+import ru.practicum.shareit.booking.service.BookingService;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+		properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class ReadWithoutSessionTest {
+	private final EntityManagerFactory entityManagerFactory;
+	private final ItemService itemService;
+	private final BookingService bookingService;
+	private final UserService userService;
+	private final BookingRepository bookingRepository;
+	private final ItemRepository itemRepository;
+	private final UserRepository userRepository;
+
+	@AfterEach
+	public void cleanUp() {
+		bookingRepository.deleteAll();
+		itemRepository.deleteAll();
+		userRepository.deleteAll();
+	}
+
+	@Test
+	public void shouldReadAssociationsWithoutOpenSession() {
+		UserDto owner = userService.create(new UserDto(null, "owner", "session-owner@email.com"));
+		UserDto booker = userService.create(new UserDto(null, "booker", "session-booker@email.com"));
+		ItemDto item = itemService.create(owner.getId(),
+				new ItemDto(null, "Дрель", "Дрель аккумуляторная", true, null, null, null, null));
+		LocalDateTime start = LocalDateTime.now().plusDays(1);
+		BookingDtoFull created = bookingService.create(booker.getId(),
+				new BookingDto(null, start, start.plusDays(1), item.getId(), null, null));
+		userService.getUsersById(owner.getId());
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+		BookingDtoFull booking = bookingService.getBookingInformation(owner.getId(), created.getId());
+		long bookingQueries = statistics.getPrepareStatementCount();
+		ItemDto ownerView = itemService.getItemById(owner.getId(), item.getId());
+		ItemDto bookerView = itemService.getItemById(booker.getId(), item.getId());
+
+		assertThat(bookingQueries, equalTo(1L));
+		assertThat(booking.getItem().getName(), equalTo("Дрель"));
+		assertThat(booking.getBooker().getEmail(), equalTo("session-booker@email.com"));
+		assertThat(ownerView.getNextBooking(), notNullValue());
+		assertThat(ownerView.getNextBooking().getBookerId(), equalTo(booker.getId()));
+		assertThat(bookerView.getNextBooking(), nullValue());
+	}
+}
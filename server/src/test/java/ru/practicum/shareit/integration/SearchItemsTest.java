@@ -0,0 +1,55 @@
+package ru.practicum.shareit.integration;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.user.UserService;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doReturn;
+
+@Transactional
+@RequiredArgsConstructor(onConstructor_ = @Autowired)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE,
+		properties = "shareit.search.index.enabled=true")
+public class SearchItemsTest {
+	private final ItemService itemService;
+	private final UserService userService;
+	@SpyBean
+	private ItemSearchIndex itemSearchIndex;
+
+	@Test
+	public void shouldReturnSameWindowFromIndexAndSqlWhenFromNotMultipleOfSize() {
+		UserDto owner = userService.create(new UserDto(null, "owner", "owner@email.com"));
+		for (int i = 1; i <= 5; i++) {
+			itemService.create(owner.getId(), new ItemDto(null, "Зубило " + i, "Зубило по металлу", true,
+					null, null, null, null));
+		}
+		itemSearchIndex.build();
+
+		List<String> fromIndex = search();
+		doReturn(false).when(itemSearchIndex).canSearch(anyString());
+		List<String> fromSql = search();
+
+		assertThat(fromIndex, equalTo(List.of("Зубило 2", "Зубило 3", "Зубило 4")));
+		assertThat(fromSql, equalTo(fromIndex));
+	}
+
+	private List<String> search() {
+		return itemService.getItemsByNameOrDescription(1L, "зубило", 1, 3, null).stream()
+				.map(ItemDto::getName)
+				.collect(Collectors.toList());
+	}
+}
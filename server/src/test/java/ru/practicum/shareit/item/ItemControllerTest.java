@@ -10,8 +10,12 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.ItemBatchResultDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.TimeSlotDto;
 import ru.practicum.shareit.item.service.ItemService;
+import ru.practicum.shareit.pagination.PageCursor;
 
 import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
@@ -22,6 +26,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -95,6 +100,29 @@ public class ItemControllerTest {
 				.andExpect(jsonPath("$.description").value(itemDto.getDescription()));
 	}
 
+	@SneakyThrows
+	@Test
+	public void shouldAddItemsBatch() {
+		when(itemService.createBatch(anyLong(), anyList()))
+				.thenReturn(List.of(
+						new ItemBatchResultDto(0, 201, itemDto, null),
+						new ItemBatchResultDto(1, 400, null, "Имя, опоисание и статус доступа должны быть заполнены")
+				));
+
+		mvc.perform(post("/items/batch")
+						.content(mapper.writeValueAsString(List.of(itemDto, itemDto)))
+						.header("X-Sharer-User-Id", 1)
+						.characterEncoding(StandardCharsets.UTF_8)
+						.contentType(MediaType.APPLICATION_JSON)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.size()").value(2))
+				.andExpect(jsonPath("$.[0].status").value(201))
+				.andExpect(jsonPath("$.[0].item.id").value(itemDto.getId()))
+				.andExpect(jsonPath("$.[1].status").value(400))
+				.andExpect(jsonPath("$.[1].item").doesNotExist());
+	}
+
 	@SneakyThrows
 	@Test
 	public void shouldUpdateItem() {
@@ -116,7 +144,7 @@ public class ItemControllerTest {
 	@SneakyThrows
 	@Test
 	public void shouldFindItems() {
-		when(itemService.getItemsByNameOrDescription(anyLong(), anyString(), anyInt(), anyInt()))
+		when(itemService.getItemsByNameOrDescription(anyLong(), anyString(), anyInt(), anyInt(), isNull()))
 				.thenReturn(List.of(itemDto));
 
 		mvc.perform(get("/items/search")
@@ -128,7 +156,55 @@ public class ItemControllerTest {
 				.andExpect(jsonPath("$.size()").value(1))
 				.andExpect(jsonPath("$.[0].id").value(itemDto.getId()))
 				.andExpect(jsonPath("$.[0].name").value(itemDto.getName()))
-				.andExpect(jsonPath("$.[0].description").value(itemDto.getDescription()));
+				.andExpect(jsonPath("$.[0].description").value(itemDto.getDescription()))
+				.andExpect(header().doesNotExist(PageCursor.NEXT_CURSOR_HEADER));
+	}
+
+	@SneakyThrows
+	@Test
+	public void shouldReturnNextCursorWhenSearchPageIsFull() {
+		when(itemService.getItemsByNameOrDescription(anyLong(), anyString(), anyInt(), anyInt(), anyString()))
+				.thenReturn(List.of(itemDto));
+
+		mvc.perform(get("/items/search")
+						.header("X-Sharer-User-Id", 1)
+						.param("text", "item")
+						.param("size", "1")
+						.param("cursor", PageCursor.encode(0L))
+						.characterEncoding(StandardCharsets.UTF_8)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.size()").value(1))
+				.andExpect(header().string(PageCursor.NEXT_CURSOR_HEADER, PageCursor.encode(itemDto.getId())));
+	}
+
+	@SneakyThrows
+	@Test
+	public void shouldGetAvailabilityWithETag() {
+		LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+		LocalDateTime to = from.plusDays(2);
+		ItemAvailabilityDto availability = new ItemAvailabilityDto(1L, from, to,
+				List.of(new TimeSlotDto(from, to)), "100-3");
+		when(itemService.getAvailability(1L, 1L, from, to)).thenReturn(availability);
+
+		mvc.perform(get("/items/1/availability")
+						.header("X-Sharer-User-Id", 1)
+						.param("from", "2030-01-01T00:00:00")
+						.param("to", "2030-01-03T00:00:00")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(header().string("ETag", "\"100-3\""))
+				.andExpect(jsonPath("$.itemId").value(1))
+				.andExpect(jsonPath("$.version").doesNotExist())
+				.andExpect(jsonPath("$.freeSlots.size()").value(1));
+
+		mvc.perform(get("/items/1/availability")
+						.header("X-Sharer-User-Id", 1)
+						.header("If-None-Match", "\"100-3\"")
+						.param("from", "2030-01-01T00:00:00")
+						.param("to", "2030-01-03T00:00:00")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isNotModified());
 	}
 
 	@SneakyThrows
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.UserRepository;
 import ru.practicum.shareit.user.model.User;
@@ -41,4 +42,22 @@ public class ItemRepositoryTest {
 
 		assertThat(items.size(), equalTo(0));
 	}
+
+	@Test
+	public void shouldSearchAvailableWithKeyset() {
+		User user = new User(null, "user", "user@email.com");
+		userStorage.save(user);
+		Item first = itemStorage.save(new Item(null, "drill", "first", true, user, null));
+		itemStorage.save(new Item(null, "drill", "broken", false, user, null));
+		Item second = itemStorage.save(new Item(null, "hammer", "hammer and DRILL bits", true, user, null));
+		Item third = itemStorage.save(new Item(null, "drill", "third", true, user, null));
+
+		List<Item> page = itemStorage.searchAvailable("Drill", PageRequest.of(0, 2));
+
+		assertThat(page, equalTo(List.of(first, second)));
+
+		page = itemStorage.searchAvailableAfter("drill", second.getId(), PageRequest.of(0, 2));
+
+		assertThat(page, equalTo(List.of(third)));
+	}
 }
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.item.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexTest {
+	@Mock
+	private ItemRepository itemRepository;
+	private ItemSearchIndex index;
+	private final User owner = new User(1L, "Ваня", "Van@mail.ru");
+
+	@BeforeEach
+	void setUp() {
+		index = new ItemSearchIndex(itemRepository, true);
+		when(itemRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+				new Item(1L, "Дрель", "Простая дрель", true, owner, null),
+				new Item(2L, "Отвертка", "Аккумуляторная отвертка", true, owner, null),
+				new Item(3L, "Дрель ударная", "Сломана", false, owner, null)
+		)));
+		index.build();
+	}
+
+	@Test
+	void search_whenTextInNameOrDescription_thenReturnAvailableItems() {
+		assertEquals(List.of(1L), index.search("ДРЕЛ"));
+		assertEquals(List.of(2L), index.search("аккум"));
+		assertEquals(List.of(), index.search("молоток"));
+	}
+
+	@Test
+	void search_whenGramsMatchButTextDoesNot_thenReturnNothing() {
+		index.index(new Item(4L, "Тент", "ааааа", true, owner, null));
+
+		assertEquals(List.of(4L), index.search("аааа"));
+		assertEquals(List.of(), index.search("аааааа"));
+	}
+
+	@Test
+	void index_whenItemUpdated_thenIndexReflectsChanges() {
+		index.index(new Item(1L, "Молоток", "Тяжелый молоток", true, owner, null));
+		index.index(new Item(3L, "Дрель ударная", "Починена", true, owner, null));
+
+		assertEquals(List.of(1L), index.search("молоток"));
+		assertEquals(List.of(3L), index.search("дрель"));
+
+		index.index(new Item(1L, "Молоток", "Тяжелый молоток", false, owner, null));
+
+		assertEquals(List.of(), index.search("молоток"));
+	}
+
+	@Test
+	void index_whenTransactionActive_thenApplyOnlyAfterCommit() {
+		TransactionSynchronizationManager.initSynchronization();
+		try {
+			index.index(new Item(4L, "Молоток", "Тяжелый молоток", true, owner, null));
+			index.index(new Item(1L, "Пила", "Ножовка", true, owner, null));
+
+			assertEquals(List.of(), index.search("молоток"));
+			assertEquals(List.of(1L), index.search("дрель"));
+
+			List<TransactionSynchronization> synchronizations =
+					TransactionSynchronizationManager.getSynchronizations();
+			synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+			assertEquals(List.of(), index.search("молоток"));
+
+			synchronizations.get(1).afterCommit();
+			assertEquals(List.of(1L), index.search("пила"));
+			assertEquals(List.of(), index.search("дрель"));
+		} finally {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void canSearch_whenTextShorterThanGram_thenFalse() {
+		assertTrue(index.canSearch("дре"));
+		assertFalse(index.canSearch("др"));
+		assertFalse(new ItemSearchIndex(itemRepository, false).canSearch("дрель"));
+	}
+}
@@ -6,6 +6,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.BookingMapper;
+import ru.practicum.shareit.booking.interval.BookingIntervalIndex;
+import ru.practicum.shareit.booking.interval.Interval;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.Status;
 import ru.practicum.shareit.booking.repisitory.BookingRepository;
@@ -13,12 +18,20 @@ import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.CommentMapper;
 import ru.practicum.shareit.item.ItemMapper;
 import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.ItemAvailabilityDto;
+import ru.practicum.shareit.item.dto.ItemBatchResultDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.TimeSlotDto;
 import ru.practicum.shareit.item.model.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.CommentRepository;
 import ru.practicum.shareit.item.repository.ItemRepository;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.item.search.ItemSearchIndex;
+import ru.practicum.shareit.request.match.ItemRequestMatcher;
+import ru.practicum.shareit.request.match.RequestMatchingService;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.pagination.PageCursor;
+import ru.practicum.shareit.user.UserCache;
 import ru.practicum.shareit.user.UserService;
 import ru.practicum.shareit.user.model.User;
 
@@ -39,37 +52,116 @@ class ItemServiceImplTest {
 	@Mock
 	private ItemRepository itemRepository;
 	@Mock
-	private UserRepository userRepository;
+	private UserCache userCache;
 	@Mock
 	private BookingRepository bookingRepository;
 	@Mock
 	private CommentRepository commentRepository;
 	@Mock
 	private UserService userService;
+	@Mock
+	private ItemSearchIndex itemSearchIndex;
+	@Mock
+	private BookingIntervalIndex bookingIntervalIndex;
+	@Mock
+	private ItemRequestMatcher itemRequestMatcher;
+	@Mock
+	private RequestMatchingService requestMatchingService;
 	@InjectMocks
 	private ItemServiceImpl itemService;
 
 	@Test
 	void create_whenItemCreate_thenReturnItem() {
 		User user1 = new User(1L, "Ваня", "Van@mail.ru");
-		when(userRepository.findById(1L)).thenReturn(Optional.of(user1));
+		when(userCache.find(1L)).thenReturn(Optional.of(user1));
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии",
 				false, new User(1L, "Ваня", "Van@mail.ru"), null);
 		when(itemRepository.save(item)).thenReturn(item);
 		ItemDto itemDto = ItemMapper.toItemDto(item, null);
 
 		ItemDto itemActualDto = itemService.create(1L, itemDto);
-		Optional<User> optionalUser = userRepository.findById(1L);
+		Optional<User> optionalUser = userCache.find(1L);
 		User owner = optionalUser.get();
 		item.setOwner(owner);
 
 		assertEquals(itemDto, itemActualDto);
 	}
 
+	@Test
+	void createBatch_whenSomeItemsNotValid_thenSaveValidOnesInOneCall() {
+		User owner = new User(1L, "Ваня", "Van@mail.ru");
+		when(userCache.find(1L)).thenReturn(Optional.of(owner));
+		when(itemRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			List<Item> items = invocation.getArgument(0);
+			long id = 10;
+			for (Item item : items) {
+				item.setId(id++);
+			}
+			return items;
+		});
+		List<ItemDto> itemDtos = List.of(
+				new ItemDto(null, "Платье", "Платье для фотоссесии", true, null, null, null, null),
+				new ItemDto(null, " ", "Без имени", true, null, null, null, null),
+				new ItemDto(null, "Дрель", "Аккумуляторная дрель", false, null, null, null, null)
+		);
+
+		List<ItemBatchResultDto> results = itemService.createBatch(1L, itemDtos);
+
+		verify(userCache, times(1)).find(1L);
+		verify(itemRepository, times(1)).saveAll(argThat(items -> ((Collection<?>) items).size() == 2));
+		verify(itemSearchIndex, times(2)).index(any(Item.class));
+		assertEquals(3, results.size());
+		assertEquals(201, results.get(0).getStatus());
+		assertEquals(10L, results.get(0).getItem().getId());
+		assertEquals(400, results.get(1).getStatus());
+		assertNull(results.get(1).getItem());
+		assertEquals(201, results.get(2).getStatus());
+		assertEquals(11L, results.get(2).getItem().getId());
+		assertEquals("Дрель", results.get(2).getItem().getName());
+	}
+
+	@Test
+	void createBatch_whenRowsTooLongOrWithIds_thenRejectLongOnesAndIgnoreIds() {
+		User owner = new User(1L, "Ваня", "Van@mail.ru");
+		when(userCache.find(1L)).thenReturn(Optional.of(owner));
+		when(itemRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			List<Item> items = invocation.getArgument(0);
+			for (Item item : items) {
+				assertNull(item.getId());
+				item.setId(20L);
+			}
+			return items;
+		});
+		List<ItemDto> itemDtos = List.of(
+				new ItemDto(7L, "Платье", "Платье для фотоссесии", true, null, null, null, null),
+				new ItemDto(null, "П".repeat(128), "Платье", true, null, null, null, null),
+				new ItemDto(null, "Платье", "П".repeat(2001), true, null, null, null, null)
+		);
+
+		List<ItemBatchResultDto> results = itemService.createBatch(1L, itemDtos);
+
+		assertEquals(201, results.get(0).getStatus());
+		assertEquals(20L, results.get(0).getItem().getId());
+		assertEquals(400, results.get(1).getStatus());
+		assertEquals(400, results.get(2).getStatus());
+		assertEquals(results.get(1).getError(), results.get(2).getError());
+		verify(itemRepository, times(1)).saveAll(argThat(items -> ((Collection<?>) items).size() == 1));
+		verify(requestMatchingService, times(1)).submitAll(anyList());
+		verify(requestMatchingService, never()).submit(any(Item.class));
+	}
+
+	@Test
+	void createBatch_whenUserNotFound_thenThrowUserNotFoundException() {
+		when(userCache.find(1L)).thenReturn(Optional.empty());
+
+		assertThrows(UserNotFoundException.class, () -> itemService.createBatch(1L, List.of()));
+		verify(itemRepository, never()).saveAll(anyList());
+	}
+
 	@Test
 	void create_whenItemNotValidName_thenReturnUserDoesNotExistException() {
 		User user1 = new User(1L, "Ваня", "Van@mail.ru");
-		when(userRepository.findById(1L))
+		when(userCache.find(1L))
 				.thenReturn(Optional.of(user1));
 		Item item = new Item(1L, null, "Платье для фотоссесии",
 				false, new User(1L, "Ваня", "Van@mail.ru"), null);
@@ -85,7 +177,7 @@ class ItemServiceImplTest {
 	@Test
 	void create_whenItemNotValidDescription_thenReturnUserDoesNotExistException() {
 		User user1 = new User(1L, "Ваня", "Van@mail.ru");
-		when(userRepository.findById(1L)).thenReturn(Optional.of(user1));
+		when(userCache.find(1L)).thenReturn(Optional.of(user1));
 		Item item = new Item(1L, "Платье", null,
 				false, new User(1L, "Ваня", "Van@mail.ru"), null);
 		Item item2 = new Item(1L, "Платье", "     ",
@@ -100,7 +192,7 @@ class ItemServiceImplTest {
 	@Test
 	void create_whenItemNotValidAvailable_thenReturnUserDoesNotExistException() {
 		User user1 = new User(1L, "Ваня", "Van@mail.ru");
-		when(userRepository.findById(1L)).thenReturn(Optional.of(user1));
+		when(userCache.find(1L)).thenReturn(Optional.of(user1));
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии",
 				null, new User(1L, "Ваня", "Van@mail.ru"), null);
 		ItemDto itemDto = ItemMapper.toItemDto(item, null);
@@ -182,26 +274,132 @@ class ItemServiceImplTest {
 		assertThrows(NegativeValueException.class, () -> itemService.getItemsUser(1L, 5, 0));
 	}
 
+	@Test
+	void getItemsUser_whenItemsFound_thenReturnItemsWithBookingsAndComments() {
+		User owner = new User(1L, "Ваня", "Van@mail.ru");
+		User booker = new User(2L, "Саша", "Sanya@mail.ru");
+		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, owner, null);
+		Item item2 = new Item(2L, "Сумка", "Сумка для фотоссесии", true, owner, null);
+		Booking last = new Booking(1L, LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1),
+				item, booker, Status.APPROVED);
+		Booking next = new Booking(2L, LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2),
+				item, booker, Status.WAITING);
+		Comment comment = new Comment(1L, "отличное платье", item, booker, LocalDateTime.now());
+		when(userCache.exists(owner.getId())).thenReturn(true);
+		when(itemRepository.findByOwnerIdOrderById(anyLong(), any(Pageable.class))).thenReturn(List.of(item, item2));
+		when(bookingRepository.findLastAndNextByItemIdIn(anyCollection(), any(LocalDateTime.class)))
+				.thenReturn(List.of(last, next));
+		when(commentRepository.findByItemIdInOrderByCreatedDesc(anyCollection())).thenReturn(List.of(comment));
+
+		List<ItemDto> result = (List<ItemDto>) itemService.getItemsUser(owner.getId(), 0, 10);
+
+		verify(bookingRepository, never()).findFirstByItemIdAndStatusNotAndStartBeforeOrderByStartDesc(
+				anyLong(), any(Status.class), any(LocalDateTime.class));
+		verify(commentRepository, never()).findByItemIdOrderByCreatedDesc(anyLong());
+		assertEquals(2, result.size());
+		assertEquals(BookingMapper.toBookingDto(last), result.get(0).getLastBooking());
+		assertEquals(BookingMapper.toBookingDto(next), result.get(0).getNextBooking());
+		assertEquals(1, result.get(0).getComments().size());
+		assertNull(result.get(1).getLastBooking());
+		assertNull(result.get(1).getNextBooking());
+		assertTrue(result.get(1).getComments().isEmpty());
+	}
+
 	@Test
 	void getItemsByNameOrDescription_whenItemsFound_thenReturnItems() {
 		User user = new User(1L, "Ваня", "Van@mail.ru");
 		Item item = new Item(1L, "Платье", "Платье для фотоссесии",
-				false, user, null);
+				true, user, null);
 		Item item2 = new Item(2L, "Сумка", "Сумка для фотоссесии",
 				true, user, null);
-		Item item3 = new Item(3L, "Стол", "Стол на большую компанию",
-				false, new User(2L, "Саша", "Sanya@mail.ru"), null);
 		List<Item> items = List.of(item, item2);
-		when(itemRepository.getItemsByNameOrDescription(anyString())).thenReturn(items);
-		when(commentRepository.findByItemIdOrderByCreatedDesc(anyLong())).thenReturn(new ArrayList<>());
+		when(itemRepository.searchAvailable(anyString(), any(Pageable.class))).thenReturn(items);
+		when(commentRepository.findByItemIdInOrderByCreatedDesc(anyCollection())).thenReturn(new ArrayList<>());
 
-		Collection<ItemDto> itemsDto = itemService.getItemsByNameOrDescription(1L, "для фотоссесии", 0, 3);
+		Collection<ItemDto> itemsDto = itemService.getItemsByNameOrDescription(1L, "для фотоссесии", 0, 3, null);
 
+		verify(itemRepository).searchAvailable("для фотоссесии", OffsetPageRequest.of(0, 3));
+		verify(commentRepository, never()).findByItemIdOrderByCreatedDesc(anyLong());
 		assertEquals(itemsDto.size(), items.size());
 		assertTrue(itemsDto.contains(ItemMapper.toItemDto(item, new ArrayList<>())));
 		assertTrue(itemsDto.contains(ItemMapper.toItemDto(item2, new ArrayList<>())));
 	}
 
+	@Test
+	void getItemsByNameOrDescription_whenCursorPassed_thenSearchAfterCursor() {
+		User user = new User(1L, "Ваня", "Van@mail.ru");
+		Item item = new Item(5L, "Платье", "Платье для фотоссесии", true, user, null);
+		when(itemRepository.searchAvailableAfter(anyString(), anyLong(), any(Pageable.class))).thenReturn(List.of(item));
+		when(commentRepository.findByItemIdInOrderByCreatedDesc(anyCollection())).thenReturn(new ArrayList<>());
+
+		Collection<ItemDto> itemsDto = itemService.getItemsByNameOrDescription(1L, "платье", 0, 3,
+				PageCursor.encode(4L));
+
+		verify(itemRepository).searchAvailableAfter("платье", 4L, PageRequest.of(0, 3));
+		assertEquals(List.of(ItemMapper.toItemDto(item, new ArrayList<>())), itemsDto);
+	}
+
+	@Test
+	void getItemsByNameOrDescription_whenCursorNotValid_thenReturnCursorNotValidException() {
+		assertThrows(CursorNotValidException.class,
+				() -> itemService.getItemsByNameOrDescription(1L, "платье", 0, 3, "не курсор"));
+	}
+
+	@Test
+	void getItemsByNameOrDescription_whenIndexEnabled_thenSearchWithoutSql() {
+		User user = new User(1L, "Ваня", "Van@mail.ru");
+		Item item = new Item(1L, "Платье", "Платье для фотоссесии", true, user, null);
+		Item item2 = new Item(2L, "Сумка", "Сумка для фотоссесии", true, user, null);
+		when(itemSearchIndex.canSearch(anyString())).thenReturn(true);
+		when(itemSearchIndex.search("фотоссесии")).thenReturn(List.of(1L, 2L, 3L));
+		when(itemRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(item2, item));
+		when(commentRepository.findByItemIdInOrderByCreatedDesc(anyCollection())).thenReturn(new ArrayList<>());
+
+		List<ItemDto> itemsDto = (List<ItemDto>) itemService.getItemsByNameOrDescription(1L, "фотоссесии", 0, 2,
+				null);
+
+		verify(itemRepository, never()).searchAvailable(anyString(), any(Pageable.class));
+		assertEquals(List.of(ItemMapper.toItemDto(item, new ArrayList<>()), ItemMapper.toItemDto(item2, new ArrayList<>())),
+				itemsDto);
+	}
+
+	@Test
+	void getAvailability_whenItemBooked_thenReturnFreeSlots() {
+		LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+		LocalDateTime to = from.plusDays(10);
+		when(itemRepository.existsById(1L)).thenReturn(true);
+		when(bookingIntervalIndex.getVersion(1L)).thenReturn("1-2");
+		when(bookingIntervalIndex.getIntervals(1L, from, to)).thenReturn(List.of(
+				new Interval(1L, from.minusDays(1), from.plusDays(1)),
+				new Interval(2L, from.plusDays(3), from.plusDays(5)),
+				new Interval(3L, from.plusDays(4), from.plusDays(6))
+		));
+
+		ItemAvailabilityDto result = itemService.getAvailability(1L, 1L, from, to);
+
+		assertEquals("1-2", result.getVersion());
+		assertEquals(List.of(
+				new TimeSlotDto(from.plusDays(1), from.plusDays(3)),
+				new TimeSlotDto(from.plusDays(6), to)
+		), result.getFreeSlots());
+	}
+
+	@Test
+	void getAvailability_whenPeriodNotValid_thenReturnBookingTimeException() {
+		LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+		assertThrows(BookingTimeException.class, () -> itemService.getAvailability(1L, 1L, from, from));
+		verify(bookingIntervalIndex, never()).getIntervals(anyLong(), any(LocalDateTime.class), any(LocalDateTime.class));
+	}
+
+	@Test
+	void getAvailability_whenItemNotFound_thenReturnItemNotFoundException() {
+		LocalDateTime from = LocalDateTime.of(2030, 1, 1, 0, 0);
+		when(itemRepository.existsById(1L)).thenReturn(false);
+
+		assertThrows(ItemNotFoundException.class, () -> itemService.getAvailability(1L, 1L, from, from.plusDays(1)));
+	}
+
 	@Test
 	void createComment_whenCommentCreate_thenReturnComment() {
 		User user = new User(1L, "Ваня", "Van@mail.ru");
@@ -211,7 +409,7 @@ class ItemServiceImplTest {
 		CommentDto commentDto = new CommentDto(1L, "отличное платье", null, null);
 		Comment comment = CommentMapper.toComment(commentDto, item, user);
 		when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(bookingRepository.findAllByBookerIdAndItemIdAndEndBefore(anyLong(), anyLong(), any(LocalDateTime.class)))
 				.thenReturn(List.of(new Booking()));
 		when(commentRepository.save(any(Comment.class))).thenReturn(comment);
@@ -221,7 +419,7 @@ class ItemServiceImplTest {
 
 
 		verify(itemRepository, times(1)).findById(item.getId());
-		verify(userRepository, times(1)).findById(user.getId());
+		verify(userCache, times(1)).find(user.getId());
 		verify(bookingRepository, times(1)).findAllByBookerIdAndItemIdAndEndBefore(anyLong(), anyLong(), any(LocalDateTime.class));
 		verify(commentRepository, times(1)).save(any(Comment.class));
 		assertThat(result)
@@ -240,7 +438,7 @@ class ItemServiceImplTest {
 		CommentDto commentDto = new CommentDto(1L, "отличное платье", null, null);
 		Comment comment = CommentMapper.toComment(commentDto, item, user);
 		when(itemRepository.findById(item.getId())).thenReturn(Optional.of(item));
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(bookingRepository.findAllByBookerIdAndItemIdAndEndBefore(anyLong(), anyLong(), any(LocalDateTime.class)))
 				.thenReturn(new ArrayList<>());
 
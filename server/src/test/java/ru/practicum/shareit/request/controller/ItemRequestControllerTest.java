@@ -9,8 +9,10 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestOutDto;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
 import ru.practicum.shareit.request.service.ItemRequestService;
 
 import java.nio.charset.StandardCharsets;
@@ -24,6 +26,7 @@ import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemRequestController.class)
@@ -64,7 +67,8 @@ class ItemRequestControllerTest {
 		ItemRequestOutDto itemRequestOutDto = new ItemRequestOutDto(1L,
 				"item request description",
 				LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS),
-				new ArrayList<>());
+				new ArrayList<>(),
+				null);
 		when(itemRequestService.getYourRequests(anyLong()))
 				.thenReturn(List.of(itemRequestOutDto));
 
@@ -84,7 +88,8 @@ class ItemRequestControllerTest {
 		ItemRequestOutDto itemRequestOutDto = new ItemRequestOutDto(1L,
 				"item request description",
 				LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS),
-				new ArrayList<>());
+				new ArrayList<>(),
+				null);
 		when(itemRequestService.getAllRequests(anyLong(), anyInt(), anyInt()))
 				.thenReturn(List.of(itemRequestOutDto));
 
@@ -104,7 +109,8 @@ class ItemRequestControllerTest {
 		ItemRequestOutDto itemRequestOutDto = new ItemRequestOutDto(1L,
 				"item request description",
 				LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS),
-				new ArrayList<>());
+				new ArrayList<>(),
+				null);
 		when(itemRequestService.getByIdRequest(anyLong(), anyLong()))
 				.thenReturn(itemRequestOutDto);
 
@@ -117,4 +123,35 @@ class ItemRequestControllerTest {
 				.andExpect(jsonPath("$.description").value(itemRequestOutDto.getDescription()))
 				.andExpect(jsonPath("$.created").value(itemRequestOutDto.getCreated().toString()));
 	}
-}
\ No newline at end of file
+
+	@SneakyThrows
+	@Test
+	public void shouldGetItemRequestByIdWithMatches() {
+		LocalDateTime created = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+		ItemRequestOutDto itemRequestOutDto = new ItemRequestOutDto(1L, "ударная дрель", created,
+				new ArrayList<>(), List.of(new RequestMatchDto(5L, 1L, 7L, "Дрель ударная", 1.0, created)));
+		when(itemRequestService.getByIdRequest(1L, 1L)).thenReturn(itemRequestOutDto);
+
+		mvc.perform(get("/requests/1")
+						.header("X-Sharer-User-Id", 1L)
+						.characterEncoding(StandardCharsets.UTF_8)
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.matches.size()").value(1))
+				.andExpect(jsonPath("$.matches[0].itemId").value(7L))
+				.andExpect(jsonPath("$.matches[0].score").value(1.0));
+	}
+
+	@SneakyThrows
+	@Test
+	public void shouldStreamMatches() {
+		SseEmitter emitter = new SseEmitter();
+		when(itemRequestService.subscribeToMatches(1L)).thenReturn(emitter);
+
+		mvc.perform(get("/requests/stream")
+						.header("X-Sharer-User-Id", 1L)
+						.accept(MediaType.TEXT_EVENT_STREAM))
+				.andExpect(request().asyncStarted());
+		emitter.complete();
+	}
+}
@@ -0,0 +1,79 @@
+package ru.practicum.shareit.request.match;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemRequestMatcherTest {
+	@Mock
+	private ItemRepository itemRepository;
+	private final User owner = new User(1L, "Ваня", "Van@mail.ru");
+
+	@Test
+	void hasMatch_whenAllTokensPresent_thenTrue() {
+		ItemRequestMatcher matcher = built(1.0);
+
+		assertTrue(matcher.hasMatch("ударная ДРЕЛЬ"));
+		assertFalse(matcher.hasMatch("ударная отвертка"));
+		assertFalse(matcher.hasMatch("карповая удочка"));
+		assertFalse(matcher.hasMatch("!!"));
+	}
+
+	@Test
+	void hasMatch_whenThresholdLowered_thenPartialMatchAccepted() {
+		ItemRequestMatcher matcher = built(0.5);
+
+		assertTrue(matcher.hasMatch("ударная отвертка"));
+		assertFalse(matcher.hasMatch("ударная лодка весло"));
+	}
+
+	@Test
+	void index_whenItemUpdatedOrUnavailable_thenIndexReflectsChanges() {
+		ItemRequestMatcher matcher = built(1.0);
+
+		matcher.index(new Item(3L, "Удочка", "Карповая удочка", true, owner, null));
+		matcher.index(new Item(1L, "Дрель", "Простая дрель", false, owner, null));
+
+		assertTrue(matcher.hasMatch("карповая удочка"));
+		assertFalse(matcher.hasMatch("дрель"));
+	}
+
+	@Test
+	void hasMatch_whenIndexNotBuilt_thenFallBackToRepository() {
+		ItemRequestMatcher matcher = new ItemRequestMatcher(itemRepository, 1.0);
+		when(itemRepository.getItemsByNameOrDescription("дрель")).thenReturn(List.of(new Item()));
+
+		assertTrue(matcher.hasMatch("дрель"));
+		verify(itemRepository, never()).findAll(any(Pageable.class));
+	}
+
+	@Test
+	void constructor_whenThresholdNotValid_thenThrowIllegalArgumentException() {
+		assertThrows(IllegalArgumentException.class, () -> new ItemRequestMatcher(itemRepository, 0));
+		assertThrows(IllegalArgumentException.class, () -> new ItemRequestMatcher(itemRepository, 1.5));
+	}
+
+	private ItemRequestMatcher built(double threshold) {
+		when(itemRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+				new Item(1L, "Дрель", "Простая дрель, ударная", true, owner, null),
+				new Item(2L, "Отвертка", "Аккумуляторная отвертка", true, owner, null),
+				new Item(3L, "Удочка", "Карповая удочка", false, owner, null)
+		)));
+		ItemRequestMatcher matcher = new ItemRequestMatcher(itemRepository, threshold);
+		matcher.build();
+		return matcher;
+	}
+}
@@ -0,0 +1,190 @@
+package ru.practicum.shareit.request.match;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.repository.ItemRepository;
+import ru.practicum.shareit.request.dto.RequestMatchDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.RequestMatch;
+import ru.practicum.shareit.request.repository.ItemRequestRepository;
+import ru.practicum.shareit.request.repository.RequestMatchRepository;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestMatchingServiceTest {
+	@Mock
+	private ItemRequestRepository itemRequestRepository;
+	@Mock
+	private RequestMatchRepository requestMatchRepository;
+	@Mock
+	private ItemRepository itemRepository;
+	@Mock
+	private RequestMatchNotifier notifier;
+	private RequestMatchingService service;
+	private final User requestor = new User(1L, "Тарас", "tar@mail.ru");
+	private final User owner = new User(2L, "Олег", "oleg@mail.ru");
+
+	@BeforeEach
+	void setUp() {
+		service = new RequestMatchingService(itemRequestRepository, requestMatchRepository, itemRepository,
+				notifier, 1.0, Runnable::run);
+		when(itemRequestRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(
+				new ItemRequest(10L, "Нужна ударная дрель", requestor, LocalDateTime.now()),
+				new ItemRequest(11L, "Ищу палатку", requestor, LocalDateTime.now()),
+				new ItemRequest(12L, "Нужна дрель", owner, LocalDateTime.now())
+		)));
+		service.build();
+	}
+
+	@Test
+	void submit_whenItemCoversRequestTokens_thenSaveMatchAndNotifyRequestor() {
+		Item item = new Item(5L, "Дрель", "Ударная, нужна для бетона", true, owner, null);
+		when(requestMatchRepository.findRequestIdsByItemId(5L)).thenReturn(List.of());
+		when(itemRepository.getReferenceById(5L)).thenReturn(item);
+		when(requestMatchRepository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+		service.submit(item);
+
+		ArgumentCaptor<RequestMatchDto> captor = ArgumentCaptor.forClass(RequestMatchDto.class);
+		verify(notifier, times(1)).publish(eq(requestor.getId()), captor.capture());
+		assertEquals(10L, captor.getValue().getRequestId());
+		assertEquals(5L, captor.getValue().getItemId());
+		assertEquals(1.0, captor.getValue().getScore());
+	}
+
+	@Test
+	void submit_whenTokensDoNotCoverRequest_thenNothingSaved() {
+		service.submit(new Item(5L, "Дрель", "Простая", true, owner, null));
+
+		verify(requestMatchRepository, never()).saveAll(anyList());
+		verify(notifier, never()).publish(anyLong(), any(RequestMatchDto.class));
+	}
+
+	@Test
+	void submit_whenItemCreatedForRequest_thenMatchWithExplicitScore() {
+		Item item = new Item(5L, "Тент", "Большой", true, owner, 11L);
+		when(requestMatchRepository.findRequestIdsByItemId(5L)).thenReturn(List.of());
+		when(itemRepository.getReferenceById(5L)).thenReturn(item);
+		when(requestMatchRepository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+		service.submit(item);
+
+		ArgumentCaptor<RequestMatchDto> captor = ArgumentCaptor.forClass(RequestMatchDto.class);
+		verify(notifier, times(1)).publish(eq(requestor.getId()), captor.capture());
+		assertEquals(11L, captor.getValue().getRequestId());
+		assertEquals(RequestMatchingService.EXPLICIT_MATCH_SCORE, captor.getValue().getScore());
+	}
+
+	@Test
+	void submit_whenOwnRequestOrAlreadyMatched_thenNothingSaved() {
+		when(requestMatchRepository.findRequestIdsByItemId(5L)).thenReturn(List.of(10L));
+
+		service.submit(new Item(5L, "Ударная дрель", "Нужна", true, owner, null));
+
+		verify(requestMatchRepository, never()).saveAll(anyList());
+		verify(notifier, never()).publish(anyLong(), any(RequestMatchDto.class));
+	}
+
+	@Test
+	void submit_whenItemUnavailable_thenNothingMatched() {
+		service.submit(new Item(5L, "Ударная дрель", "Нужна", false, owner, null));
+
+		verifyNoInteractions(requestMatchRepository, notifier);
+	}
+
+	@Test
+	void indexRequest_whenNewRequest_thenLaterItemsMatchIt() {
+		service.indexRequest(new ItemRequest(13L, "Молоток", requestor, LocalDateTime.now()));
+		Item item = new Item(5L, "Молоток", "Тяжелый", true, owner, null);
+		when(requestMatchRepository.findRequestIdsByItemId(5L)).thenReturn(List.of());
+		when(itemRepository.getReferenceById(5L)).thenReturn(item);
+		when(requestMatchRepository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+		service.submit(item);
+
+		verify(notifier, times(1)).publish(eq(requestor.getId()), any(RequestMatchDto.class));
+	}
+
+	@Test
+	void submitAll_whenSeveralItems_thenQueueOneTask() {
+		List<Runnable> tasks = new ArrayList<>();
+		RequestMatchingService queued = new RequestMatchingService(itemRequestRepository, requestMatchRepository,
+				itemRepository, notifier, 1.0, tasks::add);
+		queued.build();
+		when(requestMatchRepository.findRequestIdsByItemId(anyLong())).thenReturn(List.of());
+		when(itemRepository.getReferenceById(anyLong()))
+				.thenAnswer(invocation -> new Item(invocation.getArgument(0), "Дрель", "", true, owner, null));
+		when(requestMatchRepository.saveAll(anyList())).thenAnswer(invocation -> withIds(invocation.getArgument(0)));
+
+		queued.submitAll(List.of(
+				new Item(5L, "Ударная дрель", "Нужна", true, owner, null),
+				new Item(6L, "Палатку", "Ищу", true, owner, null),
+				new Item(7L, "Ударная дрель", "Нужна", false, owner, null)));
+		assertEquals(1, tasks.size());
+		tasks.get(0).run();
+
+		verify(notifier, times(2)).publish(eq(requestor.getId()), any(RequestMatchDto.class));
+	}
+
+	@Test
+	void submit_whenSameItemMatchedConcurrently_thenSaveAndNotifyOnce() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		RequestMatchingService concurrent = new RequestMatchingService(itemRequestRepository, requestMatchRepository,
+				itemRepository, notifier, 1.0, executor);
+		concurrent.build();
+		Item item = new Item(5L, "Ударная дрель", "Нужна", true, owner, null);
+		Set<Long> saved = ConcurrentHashMap.newKeySet();
+		when(requestMatchRepository.findRequestIdsByItemId(5L)).thenAnswer(invocation -> new ArrayList<>(saved));
+		when(itemRepository.getReferenceById(5L)).thenReturn(item);
+		when(requestMatchRepository.saveAll(anyList())).thenAnswer(invocation -> {
+			Thread.sleep(100);
+			List<RequestMatch> matches = withIds(invocation.getArgument(0));
+			matches.forEach(match -> saved.add(match.getRequestId()));
+			return matches;
+		});
+		try {
+			concurrent.submit(item);
+			concurrent.submit(item);
+		} finally {
+			executor.shutdown();
+			assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+		}
+
+		verify(requestMatchRepository, times(1)).saveAll(anyList());
+		verify(notifier, times(1)).publish(eq(requestor.getId()), any(RequestMatchDto.class));
+	}
+
+	private static List<RequestMatch> withIds(List<RequestMatch> matches) {
+		List<RequestMatch> saved = new ArrayList<>();
+		long id = 1;
+		for (RequestMatch match : matches) {
+			saved.add(new RequestMatch(id++, match.getRequestId(), match.getItem(), match.getScore(),
+					match.getCreated()));
+		}
+		return saved;
+	}
+}
@@ -5,18 +5,25 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.data.domain.Pageable;
 import ru.practicum.shareit.exception.ItemRequestExistsException;
 import ru.practicum.shareit.exception.ItemRequestNotFoundException;
 import ru.practicum.shareit.exception.NegativeValueException;
+import ru.practicum.shareit.exception.UserNotFoundException;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.repository.ItemRepository;
 import ru.practicum.shareit.request.ItemRequestMapper;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestOutDto;
+import ru.practicum.shareit.request.match.ItemRequestMatcher;
+import ru.practicum.shareit.request.match.RequestMatchNotifier;
+import ru.practicum.shareit.request.match.RequestMatchingService;
 import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.model.RequestMatch;
 import ru.practicum.shareit.request.repository.ItemRequestRepository;
-import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.request.repository.RequestMatchRepository;
+import ru.practicum.shareit.user.UserCache;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
@@ -28,6 +35,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.*;
 
@@ -38,7 +46,15 @@ class ItemRequestServiceImplTest {
 	@Mock
 	private ItemRepository itemRepository;
 	@Mock
-	private UserRepository userRepository;
+	private UserCache userCache;
+	@Mock
+	private ItemRequestMatcher itemRequestMatcher;
+	@Mock
+	private RequestMatchRepository requestMatchRepository;
+	@Mock
+	private RequestMatchingService requestMatchingService;
+	@Mock
+	private RequestMatchNotifier requestMatchNotifier;
 	@InjectMocks
 	private ItemRequestServiceImpl itemRequestService;
 
@@ -46,16 +62,17 @@ class ItemRequestServiceImplTest {
 	void create_whenRequestCreate_thenReturnRequest() {
 		ItemRequestDto itemRequestDto = new ItemRequestDto(1L, "Удочка", null);
 		User user = new User(1L, "Тарас", "tar@mail.ru");
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-		when(itemRepository.getItemsByNameOrDescription(itemRequestDto.getDescription())).thenReturn(List.of());
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
+		when(itemRequestMatcher.hasMatch(itemRequestDto.getDescription())).thenReturn(false);
 		when(itemRequestRepository.save(any(ItemRequest.class)))
 				.thenReturn(ItemRequestMapper.toItemRequest(itemRequestDto, user));
 
 		ItemRequestDto result = itemRequestService.create(user.getId(), itemRequestDto);
 
-		verify(userRepository, times(1)).findById(user.getId());
-		verify(itemRepository, times(1)).getItemsByNameOrDescription(itemRequestDto.getDescription());
+		verify(userCache, times(1)).find(user.getId());
+		verify(itemRequestMatcher, times(1)).hasMatch(itemRequestDto.getDescription());
 		verify(itemRequestRepository, times(1)).save(any(ItemRequest.class));
+		verify(requestMatchingService, times(1)).indexRequest(any(ItemRequest.class));
 		assertThat(result)
 				.hasFieldOrPropertyWithValue("id", itemRequestDto.getId())
 				.hasFieldOrPropertyWithValue("description", itemRequestDto.getDescription())
@@ -66,8 +83,8 @@ class ItemRequestServiceImplTest {
 	void create_whenIteAlreadyExists_thenReturnItemRequestExistsException() {
 		ItemRequestDto itemRequestDto = new ItemRequestDto(1L, "Удочка", null);
 		User user = new User(1L, "Тарас", "tar@mail.ru");
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
-		when(itemRepository.getItemsByNameOrDescription(itemRequestDto.getDescription())).thenReturn(List.of(new Item()));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
+		when(itemRequestMatcher.hasMatch(itemRequestDto.getDescription())).thenReturn(true);
 
 		verify(itemRequestRepository, never()).save(any(ItemRequest.class));
 		assertThrows(ItemRequestExistsException.class, () -> itemRequestService.create(user.getId(), itemRequestDto));
@@ -77,21 +94,21 @@ class ItemRequestServiceImplTest {
 	void getYourRequests_whenRequestsFound_thenReturnRequests() {
 		ItemRequestDto itemRequestDto = new ItemRequestDto(1L, "Удочка", null);
 		ItemRequestDto itemRequestDto2 = new ItemRequestDto(2L, "Лодка", null);
-		Item item = new Item();
+		Item item = new Item(1L, "Удочка", "Карповая удочка", true, null, 1L);
 		User user = new User(1L, "Тарас", "tar@mail.ru");
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(itemRequestRepository.findByRequestorId(user.getId()))
 				.thenReturn(List.of(
 						ItemRequestMapper.toItemRequest(itemRequestDto2, user),
 						ItemRequestMapper.toItemRequest(itemRequestDto, user))
 				);
-		when(itemRepository.findByRequestId(1L)).thenReturn(List.of(item));
-		when(itemRepository.findByRequestId(2L)).thenReturn(new ArrayList<>());
+		when(itemRepository.findByRequestIdIn(List.of(2L, 1L))).thenReturn(List.of(item));
 
 		List<ItemRequestOutDto> result = itemRequestService.getYourRequests(user.getId());
 
-		verify(userRepository, times(1)).findById(user.getId());
-		verify(itemRepository, times(2)).findByRequestId(anyLong());
+		verify(userCache, times(1)).find(user.getId());
+		verify(itemRepository, times(1)).findByRequestIdIn(anyCollection());
+		verify(itemRepository, never()).findByRequestId(anyLong());
 		verify(itemRequestRepository, times(1)).findByRequestorId(user.getId());
 		assertEquals(result.size(), 2);
 		assertThat(result.get(0))
@@ -109,17 +126,17 @@ class ItemRequestServiceImplTest {
 		ItemRequestDto itemRequestDto3 = new ItemRequestDto(3L, "Туфли", LocalDateTime.now());
 		User user = new User(1L, "Тарас", "tar@mail.ru");
 		User user2 = new User(2L, "Галя", "galya@mail.ru");
-		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+		when(userCache.find(user.getId())).thenReturn(Optional.of(user));
 		when(itemRequestRepository
 				.findAllByRequestorIdIsNotOrderByCreatedDesc(anyLong(), any(Pageable.class)))
 				.thenReturn(List.of(ItemRequestMapper.toItemRequest(itemRequestDto3, user2))
 				);
-		when(itemRepository.findByRequestId(anyLong())).thenReturn(new ArrayList<>());
+		when(itemRepository.findByRequestIdIn(anyCollection())).thenReturn(new ArrayList<>());
 
 		List<ItemRequestOutDto> result = itemRequestService.getAllRequests(user.getId(), 0, 3);
 
-		verify(userRepository, times(1)).findById(user.getId());
-		verify(itemRepository, times(1)).findByRequestId(anyLong());
+		verify(userCache, times(1)).find(user.getId());
+		verify(itemRepository, times(1)).findByRequestIdIn(anyCollection());
 		verify(itemRequestRepository, times(1))
 				.findAllByRequestorIdIsNotOrderByCreatedDesc(anyLong(), any(Pageable.class));
 		assertEquals(result.size(), 1);
@@ -145,14 +162,14 @@ class ItemRequestServiceImplTest {
 		ItemRequestDto itemRequestDto = new ItemRequestDto(1L, "Удочка", LocalDateTime.now());
 		User user = new User(1L, "Тарас", "tar@mail.ru");
 		User user2 = new User(2L, "Олег", "oleg@mail.ru");
-		when(userRepository.findById(user2.getId())).thenReturn(Optional.of(user2));
+		when(userCache.find(user2.getId())).thenReturn(Optional.of(user2));
 		when(itemRequestRepository.findById(itemRequestDto.getId()))
 				.thenReturn(Optional.of(ItemRequestMapper.toItemRequest(itemRequestDto, user)));
 		when(itemRepository.findByRequestId(anyLong())).thenReturn(new ArrayList<>());
 
 		ItemRequestOutDto result = itemRequestService.getByIdRequest(user2.getId(), itemRequestDto.getId());
 
-		verify(userRepository, times(1)).findById(anyLong());
+		verify(userCache, times(1)).find(anyLong());
 		verify(itemRepository, times(1)).findByRequestId(anyLong());
 		verify(itemRequestRepository, times(1)).findById(anyLong());
 		assertThat(result)
@@ -167,13 +184,51 @@ class ItemRequestServiceImplTest {
 		ItemRequestDto itemRequestDto = new ItemRequestDto(1L, "Удочка", LocalDateTime.now());
 		User user = new User(1L, "Тарас", "tar@mail.ru");
 		User user2 = new User(2L, "Олег", "oleg@mail.ru");
-		when(userRepository.findById(user2.getId())).thenReturn(Optional.of(user2));
+		when(userCache.find(user2.getId())).thenReturn(Optional.of(user2));
 		when(itemRequestRepository.findById(itemRequestDto.getId()))
 				.thenReturn(Optional.empty());
 
 		assertThrows(ItemRequestNotFoundException.class, () -> itemRequestService.getByIdRequest(user2.getId(), itemRequestDto.getId()));
-		verify(userRepository, times(1)).findById(anyLong());
+		verify(userCache, times(1)).find(anyLong());
 		verify(itemRepository, never()).findByRequestId(anyLong());
 		verify(itemRequestRepository, times(1)).findById(anyLong());
 	}
-}
\ No newline at end of file
+
+	@Test
+	void getByIdRequest_whenMatchesRecorded_thenReturnMatches() {
+		ItemRequestDto itemRequestDto = new ItemRequestDto(1L, "Удочка", LocalDateTime.now());
+		User user = new User(1L, "Тарас", "tar@mail.ru");
+		User owner = new User(2L, "Олег", "oleg@mail.ru");
+		Item item = new Item(3L, "Удочка", "Карповая удочка", true, owner, null);
+		when(userCache.find(owner.getId())).thenReturn(Optional.of(owner));
+		when(itemRequestRepository.findById(itemRequestDto.getId()))
+				.thenReturn(Optional.of(ItemRequestMapper.toItemRequest(itemRequestDto, user)));
+		when(requestMatchRepository.findByRequestId(itemRequestDto.getId()))
+				.thenReturn(List.of(new RequestMatch(4L, itemRequestDto.getId(), item, 1.0, LocalDateTime.now())));
+
+		ItemRequestOutDto result = itemRequestService.getByIdRequest(owner.getId(), itemRequestDto.getId());
+
+		assertEquals(result.getMatches().size(), 1);
+		assertThat(result.getMatches().get(0))
+				.hasFieldOrPropertyWithValue("itemId", item.getId())
+				.hasFieldOrPropertyWithValue("itemName", item.getName())
+				.hasFieldOrPropertyWithValue("score", 1.0);
+	}
+
+	@Test
+	void subscribeToMatches_whenUserFound_thenReturnEmitter() {
+		SseEmitter emitter = new SseEmitter();
+		when(userCache.exists(1L)).thenReturn(true);
+		when(requestMatchNotifier.subscribe(1L)).thenReturn(emitter);
+
+		assertEquals(emitter, itemRequestService.subscribeToMatches(1L));
+	}
+
+	@Test
+	void subscribeToMatches_whenUserNotFound_thenReturnUserNotFoundException() {
+		when(userCache.exists(1L)).thenReturn(false);
+
+		assertThrows(UserNotFoundException.class, () -> itemRequestService.subscribeToMatches(1L));
+		verify(requestMatchNotifier, never()).subscribe(anyLong());
+	}
+}
@@ -0,0 +1,66 @@
+package ru.practicum.shareit.transaction;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class TransactionCallbacksTest {
+	private final List<String> calls = new ArrayList<>();
+
+	@AfterEach
+	void tearDown() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.clearSynchronization();
+		}
+	}
+
+	@Test
+	void afterCommit_whenNoTransaction_thenRunImmediately() {
+		TransactionCallbacks.afterCommit(() -> calls.add("commit"));
+		TransactionCallbacks.afterRollback(() -> calls.add("rollback"));
+		TransactionCallbacks.afterCompletion(() -> calls.add("completion"));
+
+		assertEquals(List.of("commit"), calls);
+	}
+
+	@Test
+	void callbacks_whenTransactionCommitted_thenRunCommitAndCompletionOnly() {
+		TransactionSynchronizationManager.initSynchronization();
+		registerAll();
+		assertEquals(List.of(), calls);
+
+		complete(TransactionSynchronization.STATUS_COMMITTED);
+
+		assertEquals(List.of("commit", "completion"), calls);
+	}
+
+	@Test
+	void callbacks_whenTransactionRolledBack_thenRunRollbackAndCompletionOnly() {
+		TransactionSynchronizationManager.initSynchronization();
+		registerAll();
+
+		complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+		assertEquals(List.of("rollback", "completion"), calls);
+	}
+
+	private void registerAll() {
+		TransactionCallbacks.afterCommit(() -> calls.add("commit"));
+		TransactionCallbacks.afterRollback(() -> calls.add("rollback"));
+		TransactionCallbacks.afterCompletion(() -> calls.add("completion"));
+	}
+
+	private static void complete(int status) {
+		List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+		if (status == TransactionSynchronization.STATUS_COMMITTED) {
+			synchronizations.forEach(TransactionSynchronization::afterCommit);
+		}
+		synchronizations.forEach(synchronization -> synchronization.afterCompletion(status));
+	}
+}
@@ -0,0 +1,72 @@
+package ru.practicum.shareit.user;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.user.model.User;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserCacheTest {
+	@Mock
+	private UserRepository userRepository;
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private UserCache userCache;
+	private final User user = new User(1L, "Ваня", "Van@mail.ru");
+
+	@BeforeEach
+	void setUp() {
+		userCache = new UserCache(userRepository, meterRegistry, 100, Duration.ofMinutes(10));
+	}
+
+	@Test
+	void find_whenUserCached_thenNotLoadedAgain() {
+		when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+		assertEquals(Optional.of(user), userCache.find(1L));
+		assertTrue(userCache.exists(1L));
+
+		verify(userRepository, times(1)).findById(1L);
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", UserCache.CACHE_NAME)
+				.tag("result", "hit").functionCounter().count());
+		assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", UserCache.CACHE_NAME)
+				.tag("result", "miss").functionCounter().count());
+	}
+
+	@Test
+	void find_whenUserNotFound_thenAbsenceNotCached() {
+		when(userRepository.findById(1L)).thenReturn(Optional.empty(), Optional.of(user));
+
+		assertFalse(userCache.exists(1L));
+		assertTrue(userCache.exists(1L));
+	}
+
+	@Test
+	void find_whenReturnedUserChanged_thenCachedUserUnchanged() {
+		when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+		userCache.find(1L).get().setName("Больше не Ваня");
+
+		assertEquals("Ваня", userCache.find(1L).get().getName());
+	}
+
+	@Test
+	void invalidate_whenUserChanged_thenReloaded() {
+		User updatedUser = new User(1L, "Больше не Ваня", "Van@mail.ru");
+		when(userRepository.findById(1L)).thenReturn(Optional.of(user), Optional.of(updatedUser));
+
+		userCache.find(1L);
+		userCache.invalidate(1L);
+
+		assertEquals(Optional.of(updatedUser), userCache.find(1L));
+		verify(userRepository, times(2)).findById(1L);
+	}
+}
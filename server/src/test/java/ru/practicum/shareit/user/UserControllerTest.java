@@ -9,8 +9,11 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.dto.UserDto;
 
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
 
@@ -19,8 +22,7 @@ import static org.mockito.AdditionalAnswers.returnsFirstArg;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(UserController.class)
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -49,7 +51,7 @@ class UserControllerTest {
 	@SneakyThrows
 	@Test
 	public void shouldGetUsers() {
-		when(userService.getUsers()).thenReturn(List.of(userDto));
+		when(userService.getUsers(0, 10, null)).thenReturn(List.of(userDto));
 
 		mvc.perform(get("/users")
 						.characterEncoding(StandardCharsets.UTF_8)
@@ -92,4 +94,36 @@ class UserControllerTest {
 				.andExpect(jsonPath("$.name").value(userDto.getName()))
 				.andExpect(jsonPath("$.email").value(userDto.getEmail()));
 	}
-}
\ No newline at end of file
+
+	@SneakyThrows
+	@Test
+	public void shouldReturnNextCursorWhenPageFull() {
+		when(userService.getUsers(0, 1, null)).thenReturn(List.of(userDto));
+
+		mvc.perform(get("/users")
+						.param("size", "1")
+						.accept(MediaType.APPLICATION_JSON))
+				.andExpect(status().isOk())
+				.andExpect(header().string(PageCursor.NEXT_CURSOR_HEADER, PageCursor.encode(userDto.getId())));
+	}
+
+	@SneakyThrows
+	@Test
+	public void shouldExportUsersAsNdjson() {
+		doAnswer(invocation -> {
+			OutputStream output = invocation.getArgument(0);
+			output.write((mapper.writeValueAsString(userDto) + "\n").getBytes(StandardCharsets.UTF_8));
+			return null;
+		}).when(userService).exportUsers(any(OutputStream.class));
+
+		MvcResult result = mvc.perform(get("/users")
+						.accept(MediaType.APPLICATION_NDJSON))
+				.andExpect(request().asyncStarted())
+				.andReturn();
+
+		mvc.perform(asyncDispatch(result))
+				.andExpect(status().isOk())
+				.andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+				.andExpect(content().string(mapper.writeValueAsString(userDto) + "\n"));
+	}
+}
@@ -1,28 +1,42 @@
 package ru.practicum.shareit.user;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.practicum.shareit.exception.CursorNotValidException;
+import ru.practicum.shareit.exception.NegativeValueException;
 import ru.practicum.shareit.exception.UserAlreadyExistsException;
 import ru.practicum.shareit.exception.UserNotFoundException;
 import ru.practicum.shareit.exception.ValidationException;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
+import ru.practicum.shareit.pagination.PageCursor;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.model.User;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class UserServiceTest {
 
 	@Mock
 	private UserRepository userRepository;
+	@Mock
+	private UserCache userCache;
 
 	@InjectMocks
 	private UserService userService;
@@ -31,9 +45,9 @@ class UserServiceTest {
 	void getUsers_whenUsersFound_thenReturnUsers() {
 		User user1 = new User(1L, "Ваня", "Van@mail.ru");
 		User user2 = new User(2L, "Аня", "Anna@mail.ru");
-		when(userRepository.findAll()).thenReturn(List.of(user1, user2));
+		when(userRepository.findAll(OffsetPageRequest.of(0, 10, Sort.by("id")))).thenReturn(new PageImpl<>(List.of(user1, user2)));
 
-		Collection<UserDto> users = userService.getUsers();
+		Collection<UserDto> users = userService.getUsers(0, 10, null);
 
 		assertEquals(users.size(), 2);
 		assertTrue(users.contains(UserMapper.toItemDto(user1)));
@@ -44,7 +58,7 @@ class UserServiceTest {
 	void getUsersById_whenUserFound_thenReturnUser() {
 		User user1 = new User(1L, "Ваня", "Van@mail.ru");
 		User user2 = new User(2L, "Аня", "Anna@mail.ru");
-		when(userRepository.findById(2L)).thenReturn(Optional.of(user2));
+		when(userCache.find(2L)).thenReturn(Optional.of(user2));
 
 		UserDto userDto = userService.getUsersById(2L);
 
@@ -55,7 +69,7 @@ class UserServiceTest {
 	void getUsersById_whenUserNotFound_thenReturnUserNotFoundException() {
 		User user1 = new User(1L, "Ваня", "Van@mail.ru");
 		User user2 = new User(2L, "Аня", "Anna@mail.ru");
-		when(userRepository.findById(2L)).thenReturn(Optional.empty());
+		when(userCache.find(2L)).thenReturn(Optional.empty());
 
 		assertThrows(UserNotFoundException.class, () -> userService.getUsersById(2L));
 	}
@@ -63,7 +77,7 @@ class UserServiceTest {
 	@Test
 	void create_whenUserCreate_thenReturnUser() {
 		User user = new User(1L, "Ваня", "Van@mail.ru");
-		when(userRepository.save(user)).thenReturn(user);
+		when(userRepository.saveAndFlush(user)).thenReturn(user);
 
 		UserDto userDto = userService.create(UserMapper.toItemDto(user));
 
@@ -87,7 +101,7 @@ class UserServiceTest {
 	@Test
 	void create_whenUserAlreadyExists_thenReturnUserAlreadyExistsException() {
 		User user = new User(1L, "Ваня", "Van@mail.ru");
-		when(userRepository.save(user)).thenThrow(UserAlreadyExistsException.class);
+		when(userRepository.saveAndFlush(user)).thenThrow(UserAlreadyExistsException.class);
 
 		assertThrows(UserAlreadyExistsException.class, () -> userService.create(UserMapper.toItemDto(user)));
 	}
@@ -97,7 +111,7 @@ class UserServiceTest {
 		User user = new User(1L, "Ваня", "Van@mail.ru");
 		User userUpdate = new User(1L, "Больше не Ваня", null);
 		User userUpdateSave = new User(1L, "Больше не Ваня", "Van@mail.ru");
-		when(userRepository.save(user)).thenReturn(user);
+		when(userRepository.saveAndFlush(user)).thenReturn(user);
 		when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
 		when(userRepository.save(userUpdateSave)).thenReturn(userUpdateSave);
 
@@ -108,6 +122,7 @@ class UserServiceTest {
 		assertEquals(userUpdateDto.getId(), 1L);
 		assertEquals(userUpdateDto.getName(), userUpdate.getName());
 		assertEquals(userUpdateDto.getEmail(), user.getEmail());
+		verify(userCache, times(1)).invalidate(user.getId());
 	}
 
 	@Test
@@ -117,4 +132,47 @@ class UserServiceTest {
 
 		assertThrows(UserNotFoundException.class, () -> userService.update(1L, userUpdateDto));
 	}
-}
\ No newline at end of file
+
+	@Test
+	void delete_whenUserDeleted_thenInvalidateCache() {
+		userService.delete(1L);
+
+		verify(userRepository, times(1)).deleteById(1L);
+		verify(userCache, times(1)).invalidate(1L);
+	}
+
+	@Test
+	void getUsers_whenCursorGiven_thenReturnUsersAfterCursor() {
+		User user = new User(3L, "Ваня", "Van@mail.ru");
+		when(userRepository.findAllByIdGreaterThanOrderById(2L, PageRequest.of(0, 10))).thenReturn(List.of(user));
+
+		Collection<UserDto> users = userService.getUsers(0, 10, PageCursor.encode(2L));
+
+		assertEquals(List.of(UserMapper.toItemDto(user)), users);
+	}
+
+	@Test
+	void getUsers_whenSizeNotPositive_thenReturnNegativeValueException() {
+		assertThrows(NegativeValueException.class, () -> userService.getUsers(0, 0, null));
+		verifyNoInteractions(userRepository);
+	}
+
+	@Test
+	void getUsers_whenCursorNotValid_thenReturnCursorNotValidException() {
+		assertThrows(CursorNotValidException.class, () -> userService.getUsers(0, 10, "не курсор"));
+	}
+
+	@Test
+	void exportUsers_whenUsersFound_thenWriteOneJsonPerLine() throws IOException {
+		UserService service = new UserService(userRepository, userCache, new ObjectMapper());
+		when(userRepository.streamAll()).thenReturn(Stream.of(
+				new UserDto(1L, "Ваня", "Van@mail.ru"),
+				new UserDto(2L, "Аня", "Anna@mail.ru")));
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		service.exportUsers(output);
+
+		assertEquals("{\"id\":1,\"name\":\"Ваня\",\"email\":\"Van@mail.ru\"}\n" +
+				"{\"id\":2,\"name\":\"Аня\",\"email\":\"Anna@mail.ru\"}\n", output.toString(StandardCharsets.UTF_8));
+	}
+}